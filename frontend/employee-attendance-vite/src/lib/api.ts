@@ -154,6 +154,126 @@ export async function fetchTasks(scope?: string): Promise<Task[]> {
     return response.json();
 }
 
+export interface TaskSearchQuery {
+    status?: Task["status"];
+    priority?: number;
+    dueFrom?: string;
+    dueTo?: string;
+    employeeId?: number;
+    departNo?: number;
+    keyword?: string;
+    cursorId?: number;
+    size?: number;
+}
+
+export interface TaskPage {
+    items: Task[];
+    hasNext: boolean;
+    nextCursorId: number | null;
+}
+
+export async function searchTasks(query: TaskSearchQuery = {}): Promise<TaskPage> {
+    const params = new URLSearchParams();
+    Object.entries(query).forEach(([key, value]) => {
+        if (value !== undefined && value !== null && value !== "") params.set(key, String(value));
+    });
+    const response = await fetch(`${API_BASE_URL}/task/search?${params.toString()}`);
+    if (!response.ok) {
+        throw new Error("Failed to search tasks");
+    }
+    return response.json();
+}
+
+export interface TaskBoard {
+    limit: number;
+    columns: {
+        status: "TODO" | "IN_PROGRESS" | "DONE" | "APPROVED" | "REJECTED";
+        count: number;
+        tasks: Task[];
+    }[];
+}
+
+export async function fetchTaskBoard(query: { employeeId?: number; departNo?: number; limit?: number } = {}): Promise<TaskBoard> {
+    const params = new URLSearchParams();
+    Object.entries(query).forEach(([key, value]) => {
+        if (value !== undefined && value !== null) params.set(key, String(value));
+    });
+    const response = await fetch(`${API_BASE_URL}/task/board?${params.toString()}`);
+    if (!response.ok) {
+        throw new Error("Failed to fetch task board");
+    }
+    return response.json();
+}
+
+export interface TaskWorkloadRow {
+    id: number;
+    name: string;
+    departNo: number | null;
+    openCount: number;
+    priority1: number;
+    priority2: number;
+    priority3: number;
+    otherPriority: number;
+    nearestDueDate: string | null;
+}
+
+export interface TaskWorkload {
+    employees: TaskWorkloadRow[];
+    departments: TaskWorkloadRow[];
+}
+
+export async function fetchTaskWorkload(departNo?: number): Promise<TaskWorkload> {
+    const params = new URLSearchParams();
+    if (departNo !== undefined && departNo !== null) params.set("departNo", String(departNo));
+    const response = await fetch(`${API_BASE_URL}/task/workload?${params.toString()}`);
+    if (!response.ok) {
+        throw new Error("Failed to fetch task workload");
+    }
+    return response.json();
+}
+
+export interface TaskBulkResult {
+    requested: number;
+    succeeded: number;
+    results: { id: number; outcome: "UPDATED" | "UNCHANGED" | "DELETED" | "NOT_FOUND" | "FORBIDDEN" }[];
+}
+
+export async function bulkUpdateTaskStatus(ids: number[], status: TaskBoard["columns"][number]["status"]): Promise<TaskBulkResult> {
+    const response = await fetch(`${API_BASE_URL}/task/bulk/status`, {
+        method: "PATCH",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ ids, status }),
+    });
+    if (!response.ok) {
+        throw new Error(await response.text() || "Failed to update tasks");
+    }
+    return response.json();
+}
+
+export async function bulkUpdateTaskAssignee(ids: number[], employeeId: number): Promise<TaskBulkResult> {
+    const response = await fetch(`${API_BASE_URL}/task/bulk/assignee`, {
+        method: "PUT",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ ids, employeeId }),
+    });
+    if (!response.ok) {
+        throw new Error(await response.text() || "Failed to reassign tasks");
+    }
+    return response.json();
+}
+
+export async function bulkDeleteTasks(ids: number[]): Promise<TaskBulkResult> {
+    const response = await fetch(`${API_BASE_URL}/task/bulk/delete`, {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ ids }),
+    });
+    if (!response.ok) {
+        throw new Error(await response.text() || "Failed to delete tasks");
+    }
+    return response.json();
+}
+
 export async function fetchTaskById(id: number): Promise<Task> {
     const response = await fetch(`${API_BASE_URL}/task/${id}`);
     if (!response.ok) {
@@ -473,8 +593,36 @@ export async function adminResetPassword(userId: number): Promise<string> {
     return response.text();
 }
 
-export async function adminFetchAllAttendance(): Promise<Attendance[]> {
-    const response = await fetch(`${API_BASE_URL}/admin/attendance`);
+export interface AttendancePage<T> {
+    items: T[];
+    hasNext: boolean;
+    nextCursorDate: string | null;
+    nextCursorId: number | null;
+}
+
+export interface AdminAttendanceRow extends Attendance {
+    employeeId: number;
+    employeeNo: string;
+    name: string;
+    departName: string | null;
+}
+
+export interface AdminAttendanceQuery {
+    startDate?: string;
+    endDate?: string;
+    departNo?: number;
+    status?: string;
+    cursorDate?: string;
+    cursorId?: number;
+    size?: number;
+}
+
+export async function adminFetchAllAttendance(query: AdminAttendanceQuery = {}): Promise<AttendancePage<AdminAttendanceRow>> {
+    const params = new URLSearchParams();
+    Object.entries(query).forEach(([key, value]) => {
+        if (value !== undefined && value !== null) params.set(key, String(value));
+    });
+    const response = await fetch(`${API_BASE_URL}/admin/attendance?${params.toString()}`);
     if (!response.ok) {
         throw new Error("Failed to fetch all attendance");
     }
@@ -529,14 +677,38 @@ export interface AdminRequestItem {
     description: string;
     status: string;
     createdAt: string;
+    version: number | null;
+}
+
+export interface BulkStatusResult {
+    requested: number;
+    updated: number;
+    results: { id: number; outcome: 'UPDATED' | 'NOT_FOUND' | 'NOT_PENDING' | 'VERSION_CONFLICT'; status: string | null; version: number | null }[];
 }
 
 // --- Admin Request Management ---
 
+// 관리자 목록은 키셋 페이지 단위로 내려오므로 hasNext 가 false 가 될 때까지 이어서 조회
+async function adminFetchAllPages(kind: 'objections' | 'requests', size = 500): Promise<AdminRequestItem[]> {
+    const items: AdminRequestItem[] = []
+    let cursor: Pick<AdminInboxPage, 'nextCursorAt' | 'nextCursorId'> | null = null
+    do {
+        const params = new URLSearchParams({ size: String(size) })
+        if (cursor?.nextCursorAt && cursor.nextCursorId != null) {
+            params.set('cursorAt', cursor.nextCursorAt)
+            params.set('cursorId', String(cursor.nextCursorId))
+        }
+        const res = await fetch(`${API_BASE_URL}/admin/${kind}?${params.toString()}`)
+        if (!res.ok) throw new Error(`Failed to fetch admin ${kind}`)
+        const page: AdminInboxPage = await res.json()
+        items.push(...page.items)
+        cursor = page.hasNext ? page : null
+    } while (cursor)
+    return items
+}
+
 export async function adminFetchObjections(): Promise<AdminRequestItem[]> {
-    const res = await fetch(`${API_BASE_URL}/admin/objections`)
-    if (!res.ok) throw new Error("Failed to fetch admin objections")
-    return res.json()
+    return adminFetchAllPages('objections')
 }
 
 export async function adminUpdateObjectionStatus(id: number, status: string): Promise<ObjectionRequest> {
@@ -549,12 +721,43 @@ export async function adminUpdateObjectionStatus(id: number, status: string): Pr
     return res.json()
 }
 
-export async function adminFetchRequests(): Promise<AdminRequestItem[]> {
-    const res = await fetch(`${API_BASE_URL}/admin/requests`)
-    if (!res.ok) throw new Error("Failed to fetch admin requests")
+export interface AdminInboxPage {
+    items: AdminRequestItem[];
+    hasNext: boolean;
+    nextCursorAt: string | null;
+    nextCursorType: string | null;
+    nextCursorId: number | null;
+}
+
+// 승인 대기 통합 조회 (다음 페이지는 이전 응답의 nextCursor* 를 그대로 전달)
+export async function adminFetchInbox(cursor?: Pick<AdminInboxPage, 'nextCursorAt' | 'nextCursorType' | 'nextCursorId'>, size = 50): Promise<AdminInboxPage> {
+    const params = new URLSearchParams({ size: String(size) })
+    if (cursor?.nextCursorAt && cursor.nextCursorType && cursor.nextCursorId != null) {
+        params.set('cursorAt', cursor.nextCursorAt)
+        params.set('cursorType', cursor.nextCursorType)
+        params.set('cursorId', String(cursor.nextCursorId))
+    }
+    const res = await fetch(`${API_BASE_URL}/admin/inbox?${params.toString()}`)
+    if (!res.ok) throw new Error("Failed to fetch admin inbox")
+    return res.json()
+}
+
+// 일괄 승인/거절 (versions 를 보내면 조회 이후 변경된 건은 VERSION_CONFLICT 로 제외)
+export async function adminBulkUpdateStatus(kind: 'objections' | 'requests', items: AdminRequestItem[], status: string): Promise<BulkStatusResult> {
+    const versions = Object.fromEntries(items.filter(i => i.version != null).map(i => [i.id, i.version]))
+    const res = await fetch(`${API_BASE_URL}/admin/${kind}/bulk-status`, {
+        method: 'PUT',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ ids: items.map(i => i.id), status, versions })
+    })
+    if (!res.ok) throw new Error("Failed to bulk update status")
     return res.json()
 }
 
+export async function adminFetchRequests(): Promise<AdminRequestItem[]> {
+    return adminFetchAllPages('requests')
+}
+
 export async function adminApproveRequest(id: number): Promise<AttendanceRequest> {
     const res = await fetch(`${API_BASE_URL}/admin/requests/${id}/approve`, {
         method: 'PUT'
@@ -0,0 +1,25 @@
+package com.teamproject.workhub.auth;
+
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.userEntity.Role;
+import com.teamproject.workhub.entity.userEntity.User;
+
+// 로그인 사용자 정보 (세션에는 엔티티 대신 이 불변 값만 저장, 저장 형식은 LoginPrincipalCodec)
+public record LoginPrincipal(Long userId, Long employeeId, String employeeNo, Role role, Long departNo) {
+
+    // 요청 단위로 확인된 로그인 정보를 담는 request attribute (세션 조회 결과 또는 토큰 검증 결과)
+    public static final String REQUEST_ATTRIBUTE = LoginPrincipal.class.getName();
+
+    public static LoginPrincipal of(User user, Employee employee) {
+        return new LoginPrincipal(
+                user.getId(),
+                employee != null ? employee.getEmployeeId() : null,
+                user.getEmployeeNo(),
+                user.getRole(),
+                employee != null && employee.getDepartment() != null ? employee.getDepartment().getDepartNo() : null);
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+}
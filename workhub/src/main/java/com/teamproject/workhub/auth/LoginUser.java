@@ -0,0 +1,14 @@
+package com.teamproject.workhub.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 로그인 사용자(LoginPrincipal) 주입
+// required = true 인데 로그인 정보가 없으면 401, false 면 null 주입
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+    boolean required() default true;
+}
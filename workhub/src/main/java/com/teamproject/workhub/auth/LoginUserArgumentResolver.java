@@ -0,0 +1,47 @@
+package com.teamproject.workhub.auth;
+
+import com.teamproject.workhub.auth.session.LoginSessionManager;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @LoginUser LoginPrincipal 파라미터를 세션 저장소에서 꺼내 주입 (컨트롤러마다 세션 조회 코드를 두지 않음)
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final LoginSessionManager loginSessionManager;
+
+    // session = 세션 저장소 조회, token = TokenAuthenticationFilter 가 검증해 둔 값만 사용
+    @Value("${workhub.auth.mode:session}")
+    private String authMode;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && LoginPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        LoginPrincipal principal = null;
+        if (request != null) {
+            principal = "token".equalsIgnoreCase(authMode)
+                    ? (LoginPrincipal) request.getAttribute(LoginPrincipal.REQUEST_ATTRIBUTE)
+                    : loginSessionManager.resolve(request);
+        }
+
+        if (principal == null && parameter.getParameterAnnotation(LoginUser.class).required()) {
+            throw new UnauthorizedException("로그인이 필요합니다.");
+        }
+        return principal;
+    }
+}
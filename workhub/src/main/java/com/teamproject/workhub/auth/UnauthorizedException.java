@@ -0,0 +1,7 @@
+package com.teamproject.workhub.auth;
+
+public class UnauthorizedException extends RuntimeException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.teamproject.workhub.auth.session;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리 세션 저장소 (서버 1대 또는 로컬/테스트용, 재시작 시 모두 로그아웃)
+public class InMemorySessionStore implements SessionStore {
+
+    private final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(StoredSession session) {
+        sessions.put(session.id(), session);
+    }
+
+    @Override
+    public Optional<StoredSession> find(String sessionId) {
+        StoredSession session = sessions.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.isExpired(System.currentTimeMillis())) {
+            sessions.remove(sessionId, session);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void touch(String sessionId, long accessedAt) {
+        sessions.computeIfPresent(sessionId, (id, session) -> session.touched(accessedAt));
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        int before = sessions.size();
+        sessions.values().removeIf(session -> session.isExpired(now));
+        return before - sessions.size();
+    }
+}
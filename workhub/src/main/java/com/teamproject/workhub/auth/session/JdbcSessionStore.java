@@ -0,0 +1,115 @@
+package com.teamproject.workhub.auth.session;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// MySQL login_session 테이블 세션 저장소 (여러 서버가 같은 세션을 공유 → sticky session 불필요)
+// 마지막 접근 시각은 요청마다 UPDATE 하지 않고 메모리에 모았다가 주기적으로 배치 UPDATE
+public class JdbcSessionStore implements SessionStore {
+
+    private static final String INSERT_SQL = "INSERT INTO login_session "
+            + "(session_id, principal, created_at, last_access_at, max_inactive_ms, expires_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL = "SELECT session_id, principal, created_at, last_access_at, max_inactive_ms "
+            + "FROM login_session WHERE session_id = ?";
+
+    // 더 최근 값이 이미 반영된 경우는 건너뜀 (다른 서버가 먼저 갱신한 경우)
+    private static final String TOUCH_SQL = "UPDATE login_session "
+            + "SET last_access_at = ?, expires_at = ? + max_inactive_ms "
+            + "WHERE session_id = ? AND last_access_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    // 아직 DB 에 반영하지 않은 마지막 접근 시각 (세션 ID → epoch millis)
+    private final Map<String, Long> pendingTouches = new ConcurrentHashMap<>();
+
+    public JdbcSessionStore(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void save(StoredSession session) {
+        jdbcTemplate.update(INSERT_SQL, session.id(), session.principal(), session.createdAt(),
+                session.lastAccessAt(), session.maxInactiveMs(), session.expiresAt());
+    }
+
+    @Override
+    public Optional<StoredSession> find(String sessionId) {
+        List<StoredSession> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new StoredSession(
+                rs.getString("session_id"),
+                rs.getBytes("principal"),
+                rs.getLong("created_at"),
+                rs.getLong("last_access_at"),
+                rs.getLong("max_inactive_ms")), sessionId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 이 서버에서 아직 반영하지 않은 접근 시각까지 고려해서 만료 판단
+        // (다른 서버의 미반영 접근은 최대 flush 주기만큼 늦게 보임)
+        StoredSession session = rows.get(0);
+        Long pending = pendingTouches.get(sessionId);
+        if (pending != null) {
+            session = session.touched(pending);
+        }
+
+        if (session.isExpired(System.currentTimeMillis())) {
+            delete(sessionId);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void touch(String sessionId, long accessedAt) {
+        pendingTouches.merge(sessionId, accessedAt, Math::max);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        pendingTouches.remove(sessionId);
+        jdbcTemplate.update("DELETE FROM login_session WHERE session_id = ?", sessionId);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        flushTouches();
+        return jdbcTemplate.update("DELETE FROM login_session WHERE expires_at < ?", now);
+    }
+
+    // 모아 둔 접근 시각을 배치 UPDATE (세션당 주기마다 최대 1건)
+    @Scheduled(fixedDelayString = "${workhub.session.touch-flush-interval-ms:30000}")
+    public synchronized void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(pendingTouches.size());
+        for (Map.Entry<String, Long> entry : pendingTouches.entrySet()) {
+            // flush 도중 더 최근 접근이 들어왔으면 남겨 두고 다음 주기에 반영
+            if (pendingTouches.remove(entry.getKey(), entry.getValue())) {
+                long accessedAt = entry.getValue();
+                args.add(new Object[] { accessedAt, accessedAt, entry.getKey(), accessedAt });
+            }
+        }
+
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(TOUCH_SQL, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushTouches();
+    }
+}
@@ -0,0 +1,68 @@
+package com.teamproject.workhub.auth.session;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.entity.userEntity.Role;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// LoginPrincipal <-> byte[] (Java 직렬화 대신 필드만 고정 순서로 기록, 보통 30바이트 안팎)
+// 형식: version | userId | flags | [employeeId] | [departNo] | role | employeeNo
+public final class LoginPrincipalCodec {
+
+    private static final byte VERSION = 1;
+    private static final int HAS_EMPLOYEE_ID = 1;
+    private static final int HAS_DEPART_NO = 1 << 1;
+
+    private LoginPrincipalCodec() {
+    }
+
+    public static byte[] encode(LoginPrincipal principal) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(principal.userId());
+
+            int flags = (principal.employeeId() != null ? HAS_EMPLOYEE_ID : 0)
+                    | (principal.departNo() != null ? HAS_DEPART_NO : 0);
+            out.writeByte(flags);
+            if (principal.employeeId() != null) {
+                out.writeLong(principal.employeeId());
+            }
+            if (principal.departNo() != null) {
+                out.writeLong(principal.departNo());
+            }
+
+            out.writeUTF(principal.role().name());
+            out.writeUTF(principal.employeeNo());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // 알 수 없는 형식이면 null (로그인 안 된 것으로 처리)
+    public static LoginPrincipal decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+            long userId = in.readLong();
+            int flags = in.readByte();
+            Long employeeId = (flags & HAS_EMPLOYEE_ID) != 0 ? in.readLong() : null;
+            Long departNo = (flags & HAS_DEPART_NO) != 0 ? in.readLong() : null;
+            Role role = Role.valueOf(in.readUTF());
+            String employeeNo = in.readUTF();
+            return new LoginPrincipal(userId, employeeId, employeeNo, role, departNo);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.teamproject.workhub.auth.session;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 로그인 세션 발급/조회/삭제 (Tomcat HttpSession 대신 SessionStore 에 보관 → 서버를 여러 대 띄워도 세션 공유)
+@Component
+@RequiredArgsConstructor
+public class LoginSessionManager {
+
+    private final SessionStore sessionStore;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${workhub.session.cookie-name:WORKHUB_SESSION}")
+    private String cookieName;
+
+    @Value("${workhub.session.timeout-ms:3600000}")
+    private long timeoutMs;
+
+    // 로그인: 기존 세션은 버리고 새 ID 발급 (세션 고정 공격 방지)
+    public void login(LoginPrincipal principal, HttpServletRequest request, HttpServletResponse response) {
+        String previousId = readSessionId(request);
+        if (previousId != null) {
+            sessionStore.delete(previousId);
+        }
+
+        long now = System.currentTimeMillis();
+        String sessionId = newSessionId();
+        sessionStore.save(new StoredSession(sessionId, LoginPrincipalCodec.encode(principal), now, now, timeoutMs));
+
+        writeCookie(request, response, sessionId, -1);
+        request.setAttribute(LoginPrincipal.REQUEST_ATTRIBUTE, principal);
+    }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        String sessionId = readSessionId(request);
+        if (sessionId != null) {
+            sessionStore.delete(sessionId);
+            writeCookie(request, response, "", 0);
+        }
+        request.removeAttribute(LoginPrincipal.REQUEST_ATTRIBUTE);
+    }
+
+    // 현재 요청의 로그인 정보 (없거나 만료되면 null)
+    public LoginPrincipal resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(LoginPrincipal.REQUEST_ATTRIBUTE);
+        if (resolved instanceof LoginPrincipal principal) {
+            return principal;
+        }
+
+        String sessionId = readSessionId(request);
+        if (sessionId == null) {
+            return null;
+        }
+
+        LoginPrincipal principal = sessionStore.find(sessionId)
+                .map(session -> LoginPrincipalCodec.decode(session.principal()))
+                .orElse(null);
+        if (principal != null) {
+            sessionStore.touch(sessionId, System.currentTimeMillis());
+            request.setAttribute(LoginPrincipal.REQUEST_ATTRIBUTE, principal);
+        }
+        return principal;
+    }
+
+    // 만료 세션 정리
+    @Scheduled(fixedDelayString = "${workhub.session.cleanup-interval-ms:600000}",
+            initialDelayString = "${workhub.session.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        sessionStore.deleteExpired(System.currentTimeMillis());
+    }
+
+    private String readSessionId(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, long maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // 256bit 난수 → URL-safe Base64 (43자)
+    private String newSessionId() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamproject.workhub.auth.session;
+
+import java.util.Optional;
+
+// 로그인 세션 저장소 (workhub.session.store 로 선택: jdbc = MySQL 공유 저장소, memory = 단일 서버/테스트용)
+public interface SessionStore {
+
+    void save(StoredSession session);
+
+    // 만료된 세션은 비어 있는 값으로 반환
+    Optional<StoredSession> find(String sessionId);
+
+    // 마지막 접근 시각 갱신 (구현체에 따라 모아서 나중에 반영될 수 있음)
+    void touch(String sessionId, long accessedAt);
+
+    void delete(String sessionId);
+
+    // 만료 세션 삭제 후 삭제 건수 반환
+    int deleteExpired(long now);
+}
@@ -0,0 +1,19 @@
+package com.teamproject.workhub.auth.session;
+
+// 저장소에 보관되는 세션 한 건 (principal 은 LoginPrincipalCodec 으로 인코딩된 값)
+public record StoredSession(String id, byte[] principal, long createdAt, long lastAccessAt, long maxInactiveMs) {
+
+    public long expiresAt() {
+        return lastAccessAt + maxInactiveMs;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt() < now;
+    }
+
+    public StoredSession touched(long accessedAt) {
+        return accessedAt > lastAccessAt
+                ? new StoredSession(id, principal, createdAt, accessedAt, maxInactiveMs)
+                : this;
+    }
+}
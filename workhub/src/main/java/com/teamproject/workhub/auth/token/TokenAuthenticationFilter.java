@@ -0,0 +1,38 @@
+package com.teamproject.workhub.auth.token;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 토큰 모드: Authorization: Bearer 토큰을 검증해 로그인 정보를 요청에 담음 (DB/세션 조회 없음)
+// 토큰이 없거나 잘못되면 그대로 통과 → @LoginUser 에서 401
+// SecurityConfig 에서만 등록 (서블릿 필터로 자동 등록되지 않도록 @Component 아님)
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+
+    public TokenAuthenticationFilter(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            LoginPrincipal principal = tokenProvider.parseAccessToken(header.substring(BEARER_PREFIX.length()).trim());
+            if (principal != null) {
+                request.setAttribute(LoginPrincipal.REQUEST_ATTRIBUTE, principal);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,139 @@
+package com.teamproject.workhub.auth.token;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.session.LoginPrincipalCodec;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 토큰 모드용 서명 토큰 발급/검증 (HMAC-SHA256, DB/세션 조회 없이 서버에서 바로 검증)
+// 형식: base64url(type | expiresAt | payload) "." base64url(HMAC)
+//  - access  payload = LoginPrincipalCodec 인코딩 (userId, employeeId, role ...)
+//  - refresh payload = userId | 난수 16바이트
+@Component
+public class TokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte ACCESS = 'A';
+    private static final byte REFRESH = 'R';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${workhub.auth.mode:session}")
+    private String authMode;
+
+    @Value("${workhub.auth.token.secret:}")
+    private String secret;
+
+    @Value("${workhub.auth.token.access-ttl-ms:900000}")
+    private long accessTtlMs;
+
+    @Value("${workhub.auth.token.refresh-ttl-ms:1209600000}")
+    private long refreshTtlMs;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // Mac 은 스레드 안전하지 않으므로 스레드별로 보관
+    private ThreadLocal<Mac> mac;
+
+    @PostConstruct
+    public void init() {
+        if ("token".equalsIgnoreCase(authMode) && secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("토큰 모드는 32바이트 이상의 workhub.auth.token.secret 설정이 필요합니다.");
+        }
+        // 세션 모드에서는 토큰을 발급하지 않으므로 임시 키로 초기화
+        byte[] key = new byte[32];
+        if (secret.isEmpty()) {
+            random.nextBytes(key);
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+        mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public long getAccessTtlMs() {
+        return accessTtlMs;
+    }
+
+    public String issueAccessToken(LoginPrincipal principal) {
+        return sign(ACCESS, System.currentTimeMillis() + accessTtlMs, LoginPrincipalCodec.encode(principal));
+    }
+
+    public String issueRefreshToken(Long userId) {
+        byte[] nonce = new byte[16];
+        random.nextBytes(nonce);
+        byte[] payload = ByteBuffer.allocate(Long.BYTES + nonce.length).putLong(userId).put(nonce).array();
+        return sign(REFRESH, System.currentTimeMillis() + refreshTtlMs, payload);
+    }
+
+    // 서명/만료가 올바르면 로그인 정보, 아니면 null
+    public LoginPrincipal parseAccessToken(String token) {
+        byte[] payload = verify(token, ACCESS);
+        return payload != null ? LoginPrincipalCodec.decode(payload) : null;
+    }
+
+    // 서명/만료가 올바르면 userId, 아니면 null
+    public Long parseRefreshToken(String token) {
+        byte[] payload = verify(token, REFRESH);
+        return payload != null && payload.length >= Long.BYTES ? ByteBuffer.wrap(payload).getLong() : null;
+    }
+
+    private String sign(byte type, long expiresAt, byte[] payload) {
+        byte[] body = ByteBuffer.allocate(1 + Long.BYTES + payload.length)
+                .put(type).putLong(expiresAt).put(payload).array();
+        return ENCODER.encodeToString(body) + "." + ENCODER.encodeToString(mac.get().doFinal(body));
+    }
+
+    private byte[] verify(String token, byte expectedType) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+
+        byte[] body;
+        byte[] signature;
+        try {
+            body = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // 상수 시간 비교
+        if (!MessageDigest.isEqual(mac.get().doFinal(body), signature)) {
+            return null;
+        }
+        if (body.length < 1 + Long.BYTES) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        if (buffer.get() != expectedType || buffer.getLong() < System.currentTimeMillis()) {
+            return null;
+        }
+        return Arrays.copyOfRange(body, buffer.position(), body.length);
+    }
+}
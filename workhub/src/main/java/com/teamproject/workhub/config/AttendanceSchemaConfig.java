@@ -0,0 +1,15 @@
+package com.teamproject.workhub.config;
+
+import org.springframework.boot.jpa.autoconfigure.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// ddl-auto(update) 가 attendance 유니크 키를 추가하기 전에 중복 행 병합 (AttendanceDuplicateMerger)
+@Configuration
+public class AttendanceSchemaConfig {
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor attendanceDuplicateMergerDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("attendanceDuplicateMerger");
+    }
+}
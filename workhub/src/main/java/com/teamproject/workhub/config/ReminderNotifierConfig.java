@@ -0,0 +1,30 @@
+package com.teamproject.workhub.config;
+
+import com.teamproject.workhub.service.taskService.reminder.FileReminderNotifier;
+import com.teamproject.workhub.service.taskService.reminder.LogReminderNotifier;
+import com.teamproject.workhub.service.taskService.reminder.ReminderNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+
+// 업무 마감 알림 발송 방식 선택 (workhub.task.reminder.notifier = log | file)
+@Configuration
+public class ReminderNotifierConfig {
+
+    @Bean
+    public ReminderNotifier reminderNotifier(
+            @Value("${workhub.task.reminder.notifier:log}") String notifier,
+            @Value("${workhub.task.reminder.file-path:task-reminders.ndjson}") String filePath,
+            ObjectMapper objectMapper) {
+        if ("file".equalsIgnoreCase(notifier)) {
+            return new FileReminderNotifier(Path.of(filePath), objectMapper);
+        }
+        if (!"log".equalsIgnoreCase(notifier)) {
+            throw new IllegalArgumentException("지원하지 않는 알림 방식입니다: " + notifier);
+        }
+        return new LogReminderNotifier();
+    }
+}
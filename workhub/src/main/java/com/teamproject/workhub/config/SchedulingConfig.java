@@ -0,0 +1,10 @@
+package com.teamproject.workhub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (출근 버퍼 flush 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
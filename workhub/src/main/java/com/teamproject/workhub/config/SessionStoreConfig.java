@@ -0,0 +1,28 @@
+package com.teamproject.workhub.config;
+
+import com.teamproject.workhub.auth.session.InMemorySessionStore;
+import com.teamproject.workhub.auth.session.JdbcSessionStore;
+import com.teamproject.workhub.auth.session.SessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 로그인 세션 저장소 선택 (workhub.session.store = jdbc | memory)
+@Configuration
+public class SessionStoreConfig {
+
+    @Bean
+    public SessionStore sessionStore(
+            @Value("${workhub.session.store:jdbc}") String store,
+            @Value("${workhub.session.touch-batch-size:500}") int touchBatchSize,
+            JdbcTemplate jdbcTemplate) {
+        if ("memory".equalsIgnoreCase(store)) {
+            return new InMemorySessionStore();
+        }
+        if (!"jdbc".equalsIgnoreCase(store)) {
+            throw new IllegalArgumentException("지원하지 않는 세션 저장소입니다: " + store);
+        }
+        return new JdbcSessionStore(jdbcTemplate, touchBatchSize);
+    }
+}
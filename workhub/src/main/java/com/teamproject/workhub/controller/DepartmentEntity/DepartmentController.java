@@ -1,11 +1,9 @@
 package com.teamproject.workhub.controller.DepartmentEntity;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 import com.teamproject.workhub.entity.DepartmentEntity.Department;
-import com.teamproject.workhub.entity.userEntity.Role;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.repository.departmentRepository.DepartmentRepository;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,8 +23,8 @@ public class DepartmentController {
     }
 
     @PostMapping
-    public ResponseEntity<?> createDepartment(@RequestBody Department department, HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> createDepartment(@RequestBody Department department, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
         return ResponseEntity.ok(departmentRepository.save(department));
@@ -34,8 +32,8 @@ public class DepartmentController {
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateDepartment(@PathVariable Long id, @RequestBody Department department,
-            HttpServletRequest request) {
-        if (!isAdmin(request)) {
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
         Department existing = departmentRepository.findById(id)
@@ -53,20 +51,15 @@ public class DepartmentController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteDepartment(@PathVariable Long id, HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> deleteDepartment(@PathVariable Long id, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
         departmentRepository.deleteById(id);
         return ResponseEntity.ok("부서가 삭제되었습니다.");
     }
 
-    private boolean isAdmin(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return false;
-        }
-        User user = (User) session.getAttribute("loginUser");
-        return user.getRole() == Role.ADMIN;
+    private boolean isAdmin(LoginPrincipal loginUser) {
+        return loginUser != null && loginUser.isAdmin();
     }
 }
@@ -1,17 +1,19 @@
 package com.teamproject.workhub.controller.taskController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.dto.taskDto.TaskBulkRequest;
 import com.teamproject.workhub.dto.taskDto.TaskCreateRequest;
 import com.teamproject.workhub.dto.taskDto.TaskResponseDto;
+import com.teamproject.workhub.dto.taskDto.TaskSearchCondition;
 import com.teamproject.workhub.dto.taskDto.TaskUpdateRequest;
-import com.teamproject.workhub.entity.employeeEntity.Employee;
 import com.teamproject.workhub.entity.taskEntity.Task;
-import com.teamproject.workhub.entity.userEntity.Role;
-import com.teamproject.workhub.entity.userEntity.User;
-import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import com.teamproject.workhub.service.taskService.TaskBoardService;
 import com.teamproject.workhub.service.taskService.TaskService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import com.teamproject.workhub.service.taskService.TaskWorkloadService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,8 +26,12 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/task")
 public class TaskController {
 
+    // scope=all 목록 응답 상한 (그 이상은 /search 로 페이지 이동)
+    private static final int ALL_SCOPE_LIMIT = 500;
+
     private final TaskService taskService;
-    private final EmployeeRepository employeeRepository;
+    private final TaskBoardService taskBoardService;
+    private final TaskWorkloadService taskWorkloadService;
 
     /**
      * 컨트롤러 연결 테스트용
@@ -42,35 +48,22 @@ public class TaskController {
     @GetMapping
     public List<TaskResponseDto> getAllTasks(
             @RequestParam(name = "scope", required = false) String scope,
-            HttpServletRequest httpRequest) {
-        // 1. 세션에서 로그인한 사용자 정보 가져오기
-        HttpSession session = httpRequest.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
+            @LoginUser LoginPrincipal loginUser) {
+        // 관리자: 명시적으로 전체 조회를 요청한 경우 → 최신순 첫 페이지 (전체는 /search 페이징 사용)
+        if (loginUser.isAdmin() && "all".equals(scope)) {
+            TaskSearchCondition condition = new TaskSearchCondition();
+            condition.setSize(ALL_SCOPE_LIMIT);
+            return taskService.searchTasks(condition).getItems();
         }
 
-        User loginUser = (User) session.getAttribute("loginUser");
+        // 본인의 개인 업무만 조회
         List<Task> tasks;
-
-        // 2. 권한 및 스코프에 따라 다른 목록 반환
-        if (loginUser.getRole() == Role.ADMIN && "all".equals(scope)) {
-            // 관리자: 명시적으로 전체 조회를 요청한 경우에만 모든 업무 반환
-            tasks = taskService.getAllTasks();
+        if (loginUser.employeeId() != null) {
+            // 사원 정보가 있으면 해당 사원ID로 필터링
+            tasks = taskService.getTasksByEmployeeId(loginUser.employeeId());
         } else {
-            // 본인의 개인 업무만 조회
-            Employee loginEmployee = employeeRepository.findByUser(loginUser).orElse(null);
-
-            if (loginEmployee != null) {
-                // 사원 정보가 있으면 해당 사원ID로 필터링
-                tasks = taskService.getTasksByEmployeeId(loginEmployee.getEmployeeId());
-            } else {
-                // 사원 정보가 없는 경우 (예: 특수 관리자 계정 등) - 본인이 직접 연관된 업무만 (UserId 기반)
-                // 만약 완전한 격리를 원한다면 Collections.emptyList()를 반환해도 됨
-                tasks = taskService.getAllTasks().stream()
-                        .filter(t -> loginUser.getId().equals(t.getUserId()))
-                        .filter(t -> t.getEmployeeId() == null) // 담당자가 없는 경우만 본인거로 간주
-                        .collect(Collectors.toList());
-            }
+            // 사원 정보가 없는 경우 (예: 특수 관리자 계정 등) - 본인이 등록했고 담당자가 없는 업무만 (UserId 기반)
+            tasks = taskService.getUnassignedTasksByUserId(loginUser.userId());
         }
 
         return tasks.stream()
@@ -78,6 +71,95 @@ public class TaskController {
                 .collect(Collectors.toList());
     }
 
+    // 업무 검색 (status, priority, dueFrom~dueTo, employeeId, departNo, keyword + cursorId/size 키셋 페이징)
+    // 일반 사용자는 본인 업무로 범위 고정
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTasks(
+            @ModelAttribute TaskSearchCondition condition,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!loginUser.isAdmin()) {
+            if (loginUser.employeeId() == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("사원 정보를 찾을 수 없습니다.");
+            }
+            condition.setEmployeeId(loginUser.employeeId());
+        }
+        return ResponseEntity.ok(taskService.searchTasks(condition));
+    }
+
+    // 칸반 보드 (상태별 건수 + 컬럼별 상위 limit 건, 쿼리 1회)
+    // 관리자는 employeeId/departNo 로 범위 지정 가능 (없으면 전체), 일반 사용자는 본인 업무
+    @GetMapping("/board")
+    public ResponseEntity<?> getBoard(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long departNo,
+            @RequestParam(defaultValue = "20") int limit,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!loginUser.isAdmin()) {
+            if (loginUser.employeeId() == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("사원 정보를 찾을 수 없습니다.");
+            }
+            employeeId = loginUser.employeeId();
+            departNo = null;
+        }
+        return ResponseEntity.ok(taskBoardService.getBoard(employeeId, departNo, limit));
+    }
+
+    // 업무 배정 화면용 사원/부서별 진행 중 업무 부하 (관리자 전용, 카운터 테이블 조회)
+    @GetMapping("/workload")
+    public ResponseEntity<?> getWorkload(@RequestParam(required = false) Long departNo,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(taskWorkloadService.getWorkload(departNo));
+    }
+
+    // 업무 부하 카운터 전체 재계산 (관리자 전용, 데이터 직접 수정 후 보정용)
+    @PostMapping("/workload/rebuild")
+    public ResponseEntity<?> rebuildWorkload(@LoginUser LoginPrincipal loginUser) {
+        if (!loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        taskWorkloadService.rebuild();
+        return ResponseEntity.ok("업무 부하 집계를 다시 계산했습니다.");
+    }
+
+    // 일괄 상태 변경 (보드 컬럼 간 이동 등, 결과는 id 별로 반환)
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<?> bulkUpdateStatus(@RequestBody TaskBulkRequest body,
+            @LoginUser LoginPrincipal loginUser) {
+        try {
+            return ResponseEntity.ok(taskService.bulkUpdateStatus(body.getIds(), parseStatus(body.getStatus()), loginUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 일괄 담당자 변경 (관리자 전용)
+    @PutMapping("/bulk/assignee")
+    public ResponseEntity<?> bulkUpdateAssignee(@RequestBody TaskBulkRequest body,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        try {
+            return ResponseEntity.ok(taskService.bulkUpdateAssignee(body.getIds(), body.getEmployeeId(), loginUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 일괄 삭제 (DELETE 본문을 버리는 클라이언트가 있어 POST 사용)
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> bulkDelete(@RequestBody TaskBulkRequest body,
+            @LoginUser LoginPrincipal loginUser) {
+        try {
+            return ResponseEntity.ok(taskService.bulkDelete(body.getIds(), loginUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // TODO: GET /tasks/{taskId} 작업 상세 조회
     @GetMapping("/{taskId}")
     public TaskResponseDto getTaskById(@PathVariable Long taskId) {
@@ -89,31 +171,16 @@ public class TaskController {
     @PostMapping
     public Task createTask(
             @RequestBody TaskCreateRequest request,
-            HttpServletRequest httpRequest) { // ← HttpServletRequest 추가!
-
-        // DEBUG
-        System.out.println("=== CREATE TASK DEBUG ===");
-        System.out.println("Title: " + request.getTitle());
-        System.out.println("DueDate: " + request.getDueDate());
-        System.out.println("EmployeeId: " + request.getEmployeeId());
-
-        // 1. 세션에서 로그인한 사용자 정보 가져오기
-        HttpSession session = httpRequest.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
-        }
-
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
 
-        // 2. 권한 체크
-        if (loginUser.getRole() != Role.ADMIN) {
+        // 권한 체크
+        if (!loginUser.isAdmin()) {
             // 일반 사용자: 본인 employeeId만 가능
+            if (loginUser.employeeId() == null) {
+                throw new IllegalArgumentException("사원 정보를 찾을 수 없습니다.");
+            }
 
-            // User로부터 Employee 정보 가져오기
-            Employee loginEmployee = employeeRepository.findByUser(loginUser)
-                    .orElseThrow(() -> new IllegalArgumentException("사원 정보를 찾을 수 없습니다."));
-
-            if (!request.getEmployeeId().equals(loginEmployee.getEmployeeId())) {
+            if (!request.getEmployeeId().equals(loginUser.employeeId())) {
                 throw new IllegalArgumentException("본인에게만 업무를 할당할 수 있습니다.");
             }
         }
@@ -132,11 +199,6 @@ public class TaskController {
     public TaskResponseDto updateTask(
             @PathVariable Long taskId,
             @RequestBody TaskUpdateRequest request) {
-        System.out.println("=== UPDATE TASK DEBUG ===");
-        System.out.println("TaskId: " + taskId);
-        System.out.println("Title: " + request.getTitle());
-        System.out.println("DueDate: " + request.getDueDate());
-        System.out.println("Status: " + request.getStatus());
         Task updatedTask = taskService.updateTask(taskId, request);
         return TaskResponseDto.from(updatedTask);
     }
@@ -144,10 +206,7 @@ public class TaskController {
     // TODO: DELETE /tasks/{taskId} 작업 삭제
     @DeleteMapping("/{taskId}")
     public ResponseEntity<String> deleteTask(@PathVariable Long taskId) {
-        System.out.println("=== DELETE TASK DEBUG ===");
-        System.out.println("TaskId: " + taskId);
         taskService.deleteTask(taskId);
-        System.out.println("Task deleted successfully");
         return ResponseEntity.ok("タスクが削除されました");
     }
 
@@ -168,4 +227,16 @@ public class TaskController {
         TaskResponseDto response = taskService.updateTaskAssignee(taskId, userId);
         return ResponseEntity.ok(response);
     }
+
+    // 상태 문자열 변환 (미지정이면 null → 서비스에서 안내)
+    private static TaskStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(status.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 상태입니다: " + status);
+        }
+    }
 }
@@ -1,14 +1,32 @@
 package com.teamproject.workhub.controller.attendanceController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 import com.teamproject.workhub.dto.attendanceDto.AttendanceResponseDto;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import com.teamproject.workhub.service.attendanceService.AttendanceAnalyticsService;
+import com.teamproject.workhub.service.attendanceService.AttendanceDayCloseService;
+import com.teamproject.workhub.service.attendanceService.AttendanceExportService;
 import com.teamproject.workhub.service.attendanceService.AttendanceService;
+import com.teamproject.workhub.service.attendanceService.AttendanceSummaryService;
+import com.teamproject.workhub.service.attendanceService.PresenceBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -17,18 +35,129 @@ import java.util.List;
 public class AdminAttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceExportService attendanceExportService;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final AttendanceAnalyticsService attendanceAnalyticsService;
+    private final PresenceBroadcaster presenceBroadcaster;
+    private final AttendanceDayCloseService attendanceDayCloseService;
 
-    // 관리자용: 전체 사원 근태 이력 조회
+    // 관리자용: 전체 사원 근태 이력 조회 (키셋 페이징, 다음 페이지는 nextCursorDate/nextCursorId 전달)
     @GetMapping
-    public ResponseEntity<List<AttendanceResponseDto>> getAllAttendance() {
-        List<AttendanceResponseDto> attendances = attendanceService.getAllAttendance();
-        return ResponseEntity.ok(attendances);
+    public ResponseEntity<?> getAllAttendance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long departNo,
+            @RequestParam(required = false) AttendanceStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int size,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(attendanceService.getAttendancePage(
+                startDate, endDate, departNo, status, cursorDate, cursorId, size));
+    }
+
+    // 관리자용: 근태 이력 내보내기 (format=csv | ndjson, 응답으로 바로 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportAttendance(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long departNo,
+            @RequestParam(required = false) AttendanceStatus status,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+
+        AttendanceExportService.Format exportFormat = "ndjson".equalsIgnoreCase(format)
+                ? AttendanceExportService.Format.NDJSON
+                : AttendanceExportService.Format.CSV;
+
+        StreamingResponseBody body = out -> attendanceExportService.export(
+                exportFormat, startDate, endDate, departNo, status, out);
+
+        if (exportFormat == AttendanceExportService.Format.NDJSON) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body);
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"attendance.csv\"")
+                .body(body);
+    }
+
+    // 관리자용: 오늘 출근 현황 실시간 구독 (SSE: snapshot 이벤트 후 delta 이벤트)
+    @GetMapping(value = "/presence/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamPresence(@LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(presenceBroadcaster.subscribe());
+    }
+
+    // 관리자용: 부서별/일자별 근태 상태 인원 및 평균 근무 시간 (기본: 최근 30일)
+    @GetMapping("/analytics")
+    public ResponseEntity<?> getDepartmentAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        try {
+            return ResponseEntity.ok(attendanceAnalyticsService.getDepartmentAnalytics(start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 관리자용: 월간 집계 재계산 (백필, 예: from=2024-01&to=2024-12)
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<String> rebuildMonthlySummary(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        int months = attendanceSummaryService.rebuild(from, to != null ? to : from);
+        return ResponseEntity.ok(months + "개월 집계를 재계산했습니다.");
+    }
+
+    // 관리자용: 일 마감 수동 실행 (결근 처리 + 퇴근 미기록 표시, 기본: 어제)
+    @PostMapping("/close-day")
+    public ResponseEntity<?> closeDay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        try {
+            return ResponseEntity.ok(attendanceDayCloseService.closeDay(
+                    date != null ? date : LocalDate.now().minusDays(1)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // 관리자용: 특정 사원 근태 이력 조회
     @GetMapping("/{employeeId}")
-    public ResponseEntity<List<AttendanceResponseDto>> getAttendanceByEmployeeId(@PathVariable Long employeeId) {
+    public ResponseEntity<?> getAttendanceByEmployeeId(@PathVariable Long employeeId,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
         List<AttendanceResponseDto> attendances = attendanceService.getAttendanceByEmployeeId(employeeId);
         return ResponseEntity.ok(attendances);
     }
-}
\ No newline at end of file
+
+    private boolean isAdmin(LoginPrincipal loginUser) {
+        return loginUser != null && loginUser.isAdmin();
+    }
+}
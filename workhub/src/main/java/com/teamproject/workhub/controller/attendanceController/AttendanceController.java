@@ -1,11 +1,10 @@
 package com.teamproject.workhub.controller.attendanceController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 import com.teamproject.workhub.dto.attendanceDto.AttendanceResponseDto;
 import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.service.attendanceService.AttendanceService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -25,14 +24,10 @@ public class AttendanceController {
 
     // 내 전체 근태 이력 조회
     @GetMapping("/me")
-    public ResponseEntity getMyAttendance(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+    public ResponseEntity getMyAttendance(@LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
-        List attendances = attendanceService.getMyAttendance(loginUser);
+        List attendances = attendanceService.getMyAttendance(employeeId);
         return ResponseEntity.ok(attendances);
     }
 
@@ -41,16 +36,11 @@ public class AttendanceController {
     public ResponseEntity getMyAttendanceByPeriod(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
         List attendances =
-                attendanceService.getMyAttendanceByPeriod(loginUser, startDate, endDate);
+                attendanceService.getMyAttendanceByPeriod(employeeId, startDate, endDate);
         return ResponseEntity.ok(attendances);
     }
 
@@ -59,16 +49,11 @@ public class AttendanceController {
     public ResponseEntity getMyAttendanceByMonth(
             @RequestParam int year,
             @RequestParam int month,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
         List attendances =
-                attendanceService.getMyAttendanceByMonth(loginUser, year, month);
+                attendanceService.getMyAttendanceByMonth(employeeId, year, month);
         return ResponseEntity.ok(attendances);
     }
 
@@ -76,34 +61,45 @@ public class AttendanceController {
     @GetMapping("/me/status/{status}")
     public ResponseEntity getMyAttendanceByStatus(
             @PathVariable AttendanceStatus status,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
         List attendances =
-                attendanceService.getMyAttendanceByStatus(loginUser, status);
+                attendanceService.getMyAttendanceByStatus(employeeId, status);
         return ResponseEntity.ok(attendances);
     }
 
+    // 월간 근태 집계 (집계 테이블 1행 조회)
+    @GetMapping("/me/summary/month")
+    public ResponseEntity<?> getMyMonthlySummary(
+            @RequestParam int year,
+            @RequestParam int month,
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
+
+        return ResponseEntity.ok(attendanceService.getMyMonthlySummary(employeeId, year, month));
+    }
+
+    // 연간 근태 집계
+    @GetMapping("/me/summary/year")
+    public ResponseEntity<?> getMyYearlySummary(
+            @RequestParam int year,
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
+
+        return ResponseEntity.ok(attendanceService.getMyYearlySummary(employeeId, year));
+    }
+
     // 출근 기록
     @PostMapping("/check-in")
     public ResponseEntity<?> checkIn(
             @RequestBody(required = false) AttendanceCheckInDto checkInDto,
-            HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
         try {
             String notes = checkInDto != null ? checkInDto.getNotes() : null;
-            AttendanceResponseDto attendance = attendanceService.checkIn(loginUser, notes);
+            AttendanceResponseDto attendance = attendanceService.checkIn(employeeId, notes);
             return ResponseEntity.ok(attendance);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -112,16 +108,11 @@ public class AttendanceController {
 
     // 퇴근 기록
     @PostMapping("/check-out")
-    public ResponseEntity<?> checkOut(HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+    public ResponseEntity<?> checkOut(@LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
         try {
-            AttendanceResponseDto attendance = attendanceService.checkOut(loginUser);
+            AttendanceResponseDto attendance = attendanceService.checkOut(employeeId);
             return ResponseEntity.ok(attendance);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -130,15 +121,10 @@ public class AttendanceController {
 
     // 오늘 근태 조회
     @GetMapping("/today")
-    public ResponseEntity<?> getTodayAttendance(HttpServletRequest request) {
-
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+    public ResponseEntity<?> getTodayAttendance(@LoginUser LoginPrincipal loginUser) {
+        Long employeeId = loginUser.employeeId();
 
-        AttendanceResponseDto attendance = attendanceService.getTodayAttendance(loginUser);
+        AttendanceResponseDto attendance = attendanceService.getTodayAttendance(employeeId);
 
         if (attendance == null) {
             return ResponseEntity.ok("오늘 근태 기록이 없습니다.");
@@ -1,13 +1,12 @@
 package com.teamproject.workhub.controller.boardController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 
 import com.teamproject.workhub.dto.boardDto.BoardRequestDTO;
 import com.teamproject.workhub.dto.boardDto.BoardResponseDTO;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.service.boardService.BoardService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,19 +26,11 @@ public class BoardController {
 
     @PostMapping("/add")
     public ResponseEntity<String> createBoard(
-            @RequestBody BoardRequestDTO dto, HttpServletRequest request
+            @RequestBody BoardRequestDTO dto, @LoginUser LoginPrincipal loginUser
     ) {
 
-        HttpSession session = request.getSession(false);
-
-        if(session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-
-        User loginUser = (User) session.getAttribute("loginUser");
-
         try {
-            boardService.createNotice(dto, loginUser.getId());
+            boardService.createNotice(dto, loginUser.userId());
             return ResponseEntity.ok("게시글 등록 완료!");
 
         } catch (RuntimeException e) {
@@ -0,0 +1,41 @@
+package com.teamproject.workhub.controller.calendarController;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.service.calendarService.DepartmentCalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final DepartmentCalendarService departmentCalendarService;
+
+    // 부서 월간 캘린더: 일자별 휴가/재택/병가/출장 사원 (month=yyyy-MM, 기본: 이번 달)
+    @GetMapping("/department/{departNo}")
+    public ResponseEntity<?> getDepartmentCalendar(
+            @PathVariable Long departNo,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!canViewDepartment(loginUser, departNo)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 부서를 조회할 권한이 없습니다.");
+        }
+        return ResponseEntity.ok(departmentCalendarService.getCalendar(departNo, month != null ? month : YearMonth.now()));
+    }
+
+    // 부서 캘린더는 관리자 또는 해당 부서 소속만
+    private boolean canViewDepartment(LoginPrincipal loginUser, Long departNo) {
+        return loginUser.isAdmin() || departNo.equals(loginUser.departNo());
+    }
+}
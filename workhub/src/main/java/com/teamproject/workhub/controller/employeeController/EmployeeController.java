@@ -1,14 +1,13 @@
 package com.teamproject.workhub.controller.employeeController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 import com.teamproject.workhub.dto.employeeDto.EmployeeResponseDto;
 import com.teamproject.workhub.dto.employeeDto.EmployeeUpdateDto;
 import com.teamproject.workhub.dto.userDto.UserResponseDto;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import com.teamproject.workhub.service.employeeService.EmployeeService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +15,8 @@ import org.springframework.web.bind.annotation.*;
 import com.teamproject.workhub.dto.userDto.PasswordChangeDto;
 import com.teamproject.workhub.service.userService.UserService;
 
+import java.util.Optional;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/userinfo")
@@ -27,17 +28,12 @@ public class EmployeeController {
 
     // 내 정보 조회
     @GetMapping("/me")
-    public ResponseEntity<?> getMyInfo(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
-
-        Employee employee = employeeRepository.findByUser(loginUser)
+    public ResponseEntity<?> getMyInfo(@LoginUser LoginPrincipal loginUser) {
+        Employee employee = Optional.ofNullable(loginUser.employeeId())
+                .flatMap(employeeRepository::findWithUserById)
                 .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
 
-        EmployeeResponseDto userInfo = EmployeeResponseDto.from(loginUser, employee);
+        EmployeeResponseDto userInfo = EmployeeResponseDto.from(employee.getUser(), employee);
         return ResponseEntity.ok(userInfo);
     }
 
@@ -45,17 +41,10 @@ public class EmployeeController {
     @PutMapping("/me")
     public ResponseEntity<String> updateMyInfo(
             @RequestBody EmployeeUpdateDto updateDto,
-            HttpServletRequest request) {
-
-        // 세션에서 로그인한 사용자 정보 가져오기
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
 
         // 서비스 계층에서 업데이트 처리
-        employeeService.updateMyInfo(loginUser, updateDto);
+        employeeService.updateMyInfo(loginUser.userId(), updateDto);
 
         return ResponseEntity.ok("내 정보가 수정되었습니다.");
     }
@@ -64,19 +53,12 @@ public class EmployeeController {
     @PutMapping("/password")
     public ResponseEntity<String> changePassword(
             @RequestBody PasswordChangeDto passwordChangeDto,
-            HttpServletRequest request) {
-
-        // 세션에서 로그인한 사용자 정보 가져오기
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
+            @LoginUser LoginPrincipal loginUser) {
 
         try {
             // UserService에서 비밀번호 변경 처리
             userService.changePassword(
-                    loginUser,
+                    loginUser.userId(),
                     passwordChangeDto.getCurrentPassword(),
                     passwordChangeDto.getNewPassword()
             );
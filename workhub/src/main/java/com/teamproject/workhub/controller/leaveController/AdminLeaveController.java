@@ -0,0 +1,90 @@
+package com.teamproject.workhub.controller.leaveController;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.dto.leaveDto.HolidayRequest;
+import com.teamproject.workhub.service.leaveService.LeaveLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/leave")
+@RequiredArgsConstructor
+public class AdminLeaveController {
+
+    private final LeaveLedgerService leaveLedgerService;
+
+    // 관리자용: 특정 사원 휴가 잔여
+    @GetMapping("/{employeeId}/balance")
+    public ResponseEntity<?> getBalance(@PathVariable Long employeeId,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.getBalance(employeeId));
+    }
+
+    // 관리자용: 특정 사원 휴가 원장
+    @GetMapping("/{employeeId}/ledger")
+    public ResponseEntity<?> getLedger(@PathVariable Long employeeId,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.getLedger(employeeId));
+    }
+
+    // 관리자용: 연간 부여 수동 실행 (기본: 올해, 같은 연도 재실행 시 이미 부여된 사원은 제외)
+    @PostMapping("/accrue")
+    public ResponseEntity<?> accrue(@RequestParam(required = false) Integer year,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        int accrued = leaveLedgerService.accrueYear(year != null ? year : LocalDate.now().getYear());
+        return ResponseEntity.ok(accrued + "명에게 연차가 부여되었습니다.");
+    }
+
+    // 관리자용: 공휴일 조회
+    @GetMapping("/holidays")
+    public ResponseEntity<?> getHolidays(@RequestParam(required = false) Integer year,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.getHolidays(year != null ? year : LocalDate.now().getYear()));
+    }
+
+    // 관리자용: 공휴일 등록
+    @PostMapping("/holidays")
+    public ResponseEntity<?> addHoliday(@RequestBody HolidayRequest request,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        try {
+            return ResponseEntity.ok(leaveLedgerService.addHoliday(request.getHolidayDate(), request.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 관리자용: 공휴일 삭제
+    @DeleteMapping("/holidays/{id}")
+    public ResponseEntity<?> deleteHoliday(@PathVariable Long id,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        leaveLedgerService.deleteHoliday(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isAdmin(LoginPrincipal loginUser) {
+        return loginUser != null && loginUser.isAdmin();
+    }
+}
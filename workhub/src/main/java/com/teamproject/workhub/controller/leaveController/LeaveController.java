@@ -0,0 +1,52 @@
+package com.teamproject.workhub.controller.leaveController;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.service.leaveService.LeaveLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/leave")
+@RequiredArgsConstructor
+public class LeaveController {
+
+    private final LeaveLedgerService leaveLedgerService;
+
+    // 내 휴가 잔여
+    @GetMapping("/balance")
+    public ResponseEntity<?> getMyBalance(@LoginUser LoginPrincipal loginUser) {
+        if (loginUser.employeeId() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("사원 정보를 찾을 수 없습니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.getBalance(loginUser.employeeId()));
+    }
+
+    // 내 휴가 원장 (최신순)
+    @GetMapping("/ledger")
+    public ResponseEntity<?> getMyLedger(@LoginUser LoginPrincipal loginUser) {
+        if (loginUser.employeeId() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("사원 정보를 찾을 수 없습니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.getLedger(loginUser.employeeId()));
+    }
+
+    // 신청 전 차감 예정 일수 미리보기 (주말, 공휴일 제외)
+    @GetMapping("/working-days")
+    public ResponseEntity<?> getWorkingDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return ResponseEntity.badRequest().body("종료일이 시작일보다 빠릅니다.");
+        }
+        return ResponseEntity.ok(leaveLedgerService.countWorkingDays(startDate, endDate));
+    }
+}
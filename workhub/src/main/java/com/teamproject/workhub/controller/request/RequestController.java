@@ -1,15 +1,18 @@
 package com.teamproject.workhub.controller.request;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
 import com.teamproject.workhub.dto.request.RequestDto;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.service.request.RequestService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/requests")
@@ -17,43 +20,56 @@ public class RequestController {
 
     private final RequestService service;
 
-    private User getLoginUser(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return null;
-        }
-        return (User) session.getAttribute("loginUser");
-    }
-
     @PostMapping
-    public ResponseEntity<?> submitRequest(@RequestBody RequestDto dto, HttpServletRequest request) {
-        User user = getLoginUser(request);
-        if (user == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+    public ResponseEntity<?> submitRequest(@RequestBody RequestDto dto, @LoginUser LoginPrincipal loginUser) {
+        try {
+            return ResponseEntity.ok(service.submitRequest(loginUser.userId(), loginUser.employeeId(), dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-        return ResponseEntity.ok(service.submitRequest(user, dto));
     }
 
     @GetMapping
-    public ResponseEntity<?> getMyRequests(HttpServletRequest request) {
-        User user = getLoginUser(request);
-        if (user == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        return ResponseEntity.ok(service.getMyRequests(user));
+    public ResponseEntity<?> getMyRequests(@LoginUser LoginPrincipal loginUser) {
+        return ResponseEntity.ok(service.getMyRequests(loginUser.userId()));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> cancelRequest(@PathVariable Long id, HttpServletRequest request) {
-        User user = getLoginUser(request);
-        if (user == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
+    public ResponseEntity<?> cancelRequest(@PathVariable Long id, @LoginUser LoginPrincipal loginUser) {
         try {
-            service.cancelRequest(id, user);
+            service.cancelRequest(id, loginUser.userId());
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // 부서원 중 특정 날짜(기본: 오늘)에 휴가/재택인 사원
+    @GetMapping("/department/{departNo}/off")
+    public ResponseEntity<?> getDepartmentAbsences(
+            @PathVariable Long departNo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!canViewDepartment(loginUser, departNo)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 부서를 조회할 권한이 없습니다.");
+        }
+        return ResponseEntity.ok(service.getDepartmentAbsences(departNo, date != null ? date : LocalDate.now()));
+    }
+
+    // 부서 월간 휴가/재택 현황 (month=yyyy-MM, 기본: 이번 달)
+    @GetMapping("/department/{departNo}/coverage")
+    public ResponseEntity<?> getDepartmentCoverage(
+            @PathVariable Long departNo,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @LoginUser LoginPrincipal loginUser) {
+        if (!canViewDepartment(loginUser, departNo)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("해당 부서를 조회할 권한이 없습니다.");
+        }
+        return ResponseEntity.ok(service.getDepartmentCoverage(departNo, month != null ? month : YearMonth.now()));
+    }
+
+    // 관리자 또는 같은 부서 사원만 부서 현황 조회 가능
+    private boolean canViewDepartment(LoginPrincipal loginUser, Long departNo) {
+        return loginUser.isAdmin() || departNo.equals(loginUser.departNo());
+    }
 }
@@ -1,72 +1,83 @@
 package com.teamproject.workhub.controller.userController;
 
-import com.teamproject.workhub.dto.adminDto.AdminDashboardStatsResponse;
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.dto.adminDto.BulkStatusRequest;
 import com.teamproject.workhub.dto.employeeDto.AdminEmployeeUpdateRequest;
+import com.teamproject.workhub.dto.taskDto.TaskResponseDto;
 import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
-import com.teamproject.workhub.entity.userEntity.Role;
-import com.teamproject.workhub.entity.userEntity.User;
-import com.teamproject.workhub.entity.request.Request;
 import com.teamproject.workhub.entity.request.RequestStatus;
-import com.teamproject.workhub.entity.request.RequestType;
-import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
-import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
-import com.teamproject.workhub.repository.objectionRepository.ObjectionRepository;
+import com.teamproject.workhub.service.adminService.AdminInboxService;
+import com.teamproject.workhub.service.adminService.DashboardStatsCache;
 import com.teamproject.workhub.service.objectionService.ObjectionService;
+import com.teamproject.workhub.service.userService.LoginMetrics;
+import com.teamproject.workhub.service.userService.PasswordVerifier;
 import com.teamproject.workhub.service.userService.UserService;
 import com.teamproject.workhub.service.request.RequestService;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import com.teamproject.workhub.service.taskService.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserService userService;
-    private final EmployeeRepository employeeRepository;
-    private final AttendanceRepository attendanceRepository;
-    private final ObjectionRepository objectionRepository;
     private final ObjectionService objectionService;
     private final RequestService requestService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final AdminInboxService adminInboxService;
+    private final TaskService taskService;
+    private final LoginMetrics loginMetrics;
+    private final PasswordVerifier passwordVerifier;
 
     @GetMapping("/stats")
-    public ResponseEntity<?> getDashboardStats(HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> getDashboardStats(@LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
 
-        long totalEmployees = employeeRepository.count();
-        long todayAttendance = attendanceRepository.countByWorkDate(LocalDate.now());
-        long pendingCorrections = objectionRepository.countByStatus(ObjectionStatus.PENDING);
+        // 메모리 카운터 조회 (DB 조회 없음, reconciledAt 이후 변경은 이벤트로 반영)
+        return ResponseEntity.ok(dashboardStatsCache.getStats());
+    }
+
+    // 로그인 처리량/p99 (동시 로그인 부하 테스트 측정용)
+    @GetMapping("/login-metrics")
+    public ResponseEntity<?> getLoginMetrics(@LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
 
-        double attendanceRate = totalEmployees > 0 ? (double) todayAttendance / totalEmployees * 100 : 0;
+        return ResponseEntity.ok(loginMetrics.snapshot(passwordVerifier.getActiveCount(), passwordVerifier.getQueuedCount()));
+    }
 
-        AdminDashboardStatsResponse stats = AdminDashboardStatsResponse.builder()
-                .totalEmployees(totalEmployees)
-                .todayAttendanceCount(todayAttendance)
-                .pendingCorrectionsCount(pendingCorrections)
-                .attendanceRate(Math.round(attendanceRate * 10) / 10.0)
-                .build();
+    // 측정 구간 초기화 (부하 테스트 시작 전에 호출)
+    @DeleteMapping("/login-metrics")
+    public ResponseEntity<?> resetLoginMetrics(@LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
 
-        return ResponseEntity.ok(stats);
+        loginMetrics.reset();
+        return ResponseEntity.ok("로그인 측정값이 초기화되었습니다.");
     }
 
     @PutMapping("/employees/{employeeId}")
     public ResponseEntity<?> updateEmployee(
             @PathVariable Long employeeId,
             @RequestBody AdminEmployeeUpdateRequest updateRequest,
-            HttpServletRequest request) {
+            @LoginUser(required = false) LoginPrincipal loginUser) {
 
-        if (!isAdmin(request)) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
 
@@ -78,33 +89,38 @@ public class AdminController {
         }
     }
 
-    // 모든 정정 요청 조회
+    // 승인함: 승인 대기 중인 정정 요청 / 휴가·재택 신청 / 완료 업무를 최신순으로 통합 조회
+    @GetMapping("/inbox")
+    public ResponseEntity<?> getInbox(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) String cursorType,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "50") int size,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(adminInboxService.getInbox(cursorAt, cursorType, cursorId, clampSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 정정 요청 조회 (status 미지정 시 전체, 키셋 페이지: 다음 페이지는 nextCursorAt/nextCursorId 전달)
     @GetMapping("/objections")
-    public ResponseEntity<?> getAllObjections(HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> getAllObjections(
+            @RequestParam(required = false) ObjectionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int size,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
 
-        List<com.teamproject.workhub.entity.objectionRequest.ObjectionRequest> objections = objectionService
-                .getAllObjections();
-        List<com.teamproject.workhub.dto.adminDto.AdminRequestResponse> response = objections.stream()
-                .map(o -> {
-                    com.teamproject.workhub.entity.employeeEntity.Employee employee = employeeRepository
-                            .findByUser(o.getUser()).orElse(null);
-                    return com.teamproject.workhub.dto.adminDto.AdminRequestResponse.builder()
-                            .id(o.getId())
-                            .type("OBJECTION")
-                            .employeeNo(o.getUser().getEmployeeNo())
-                            .employeeName(employee != null ? employee.getName() : "알수없음")
-                            .title("[이의신청] " + o.getCategory())
-                            .description("날짜: " + o.getAttendanceDate() + "\n사유: " + o.getReason())
-                            .status(o.getStatus().name())
-                            .createdAt(o.getCreatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(objectionService.getAdminObjections(status, cursorAt, cursorId, clampSize(size)));
     }
 
     // 정정 요청 상태 변경 (승인/거절)
@@ -112,70 +128,112 @@ public class AdminController {
     public ResponseEntity<?> updateObjectionStatus(
             @PathVariable Long id,
             @RequestBody Map<String, String> body,
-            HttpServletRequest request) {
-        if (!isAdmin(request)) {
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        try {
+            ObjectionStatus status = ObjectionStatus.valueOf(String.valueOf(body.get("status")));
+            return ResponseEntity.ok(objectionService.updateStatus(id, status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 정정 요청 일괄 승인/거절
+    @PutMapping("/objections/bulk-status")
+    public ResponseEntity<?> bulkUpdateObjectionStatus(@RequestBody BulkStatusRequest body,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
-        String statusStr = body.get("status");
-        com.teamproject.workhub.entity.objectionRequest.ObjectionStatus status = com.teamproject.workhub.entity.objectionRequest.ObjectionStatus
-                .valueOf(statusStr);
-        return ResponseEntity.ok(objectionService.updateStatus(id, status));
+        try {
+            ObjectionStatus status = ObjectionStatus.valueOf(String.valueOf(body.getStatus()));
+            return ResponseEntity.ok(objectionService.bulkUpdateStatus(body.getIds(), status, body.getVersions()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
-    // 휴가/재택 신청 업무 조회
+    // 휴가/재택 신청 조회 (status 미지정 시 전체, 키셋 페이지: 다음 페이지는 nextCursorAt/nextCursorId 전달)
     @GetMapping("/requests")
-    public ResponseEntity<?> getAllRequests(HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> getAllRequests(
+            @RequestParam(required = false) RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") int size,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
 
-        List<Request> requests = requestService.getAllRequests();
-        List<com.teamproject.workhub.dto.adminDto.AdminRequestResponse> response = requests.stream()
-                .map(wr -> {
-                    com.teamproject.workhub.entity.employeeEntity.Employee employee = employeeRepository
-                            .findByUser(wr.getUser()).orElse(null);
-                    return com.teamproject.workhub.dto.adminDto.AdminRequestResponse.builder()
-                            .id(wr.getId())
-                            .type("WORK_REQUEST")
-                            .employeeNo(wr.getUser().getEmployeeNo())
-                            .employeeName(employee != null ? employee.getName() : "알수없음")
-                            .title("[" + (wr.getType() == RequestType.LEAVE ? "휴가" : "재택") + "] "
-                                    + (wr.getType() == RequestType.LEAVE ? "휴가 신청" : "재택근무 신청"))
-                            .description(
-                                    "기간: " + wr.getStartDate() + " ~ " + wr.getEndDate() + "\n사유: " + wr.getReason())
-                            .status(wr.getStatus().name())
-                            .createdAt(wr.getCreatedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(requestService.getAdminRequests(status, cursorAt, cursorId, clampSize(size)));
     }
 
     // 휴가/재택 신청 승인
     @PutMapping("/requests/{id}/approve")
-    public ResponseEntity<?> approveRequest(@PathVariable Long id, HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> approveRequest(@PathVariable Long id, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
-        return ResponseEntity.ok(requestService.updateStatus(id, RequestStatus.APPROVED));
+        try {
+            return ResponseEntity.ok(requestService.updateStatus(id, RequestStatus.APPROVED));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // 휴가/재택 신청 거절
     @PutMapping("/requests/{id}/reject")
-    public ResponseEntity<?> rejectRequest(@PathVariable Long id, HttpServletRequest request) {
-        if (!isAdmin(request)) {
+    public ResponseEntity<?> rejectRequest(@PathVariable Long id, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        try {
+            return ResponseEntity.ok(requestService.updateStatus(id, RequestStatus.REJECTED));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 휴가/재택 신청 일괄 승인/거절
+    @PutMapping("/requests/bulk-status")
+    public ResponseEntity<?> bulkUpdateRequestStatus(@RequestBody BulkStatusRequest body,
+            @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
-        return ResponseEntity.ok(requestService.updateStatus(id, RequestStatus.REJECTED));
+        try {
+            RequestStatus status = RequestStatus.valueOf(String.valueOf(body.getStatus()));
+            return ResponseEntity.ok(requestService.bulkUpdateStatus(body.getIds(), status, body.getVersions()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 업무 승인 (승인함의 TASK 항목)
+    @PutMapping("/tasks/{id}/approve")
+    public ResponseEntity<?> approveTask(@PathVariable Long id, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(TaskResponseDto.from(taskService.approveTask(id)));
     }
 
-    private boolean isAdmin(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return false;
+    // 업무 반려 (승인함의 TASK 항목)
+    @PutMapping("/tasks/{id}/reject")
+    public ResponseEntity<?> rejectTask(@PathVariable Long id, @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
         }
-        User user = (User) session.getAttribute("loginUser");
-        return user.getRole() == Role.ADMIN;
+        return ResponseEntity.ok(TaskResponseDto.from(taskService.rejectTask(id)));
+    }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private boolean isAdmin(LoginPrincipal loginUser) {
+        return loginUser != null && loginUser.isAdmin();
     }
 }
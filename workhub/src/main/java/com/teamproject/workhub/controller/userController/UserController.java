@@ -1,17 +1,26 @@
 package com.teamproject.workhub.controller.userController;
 
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.auth.LoginUser;
+import com.teamproject.workhub.auth.session.LoginSessionManager;
+import com.teamproject.workhub.auth.token.TokenProvider;
 import com.teamproject.workhub.dto.employeeDto.EmployeeRequest;
 import com.teamproject.workhub.dto.employeeDto.EmployeeResponseDto;
 import com.teamproject.workhub.dto.userDto.LoginRequest;
 import com.teamproject.workhub.dto.userDto.PasswordRequest;
 import com.teamproject.workhub.dto.userDto.RegisterRequest;
+import com.teamproject.workhub.dto.userDto.TokenRefreshRequest;
+import com.teamproject.workhub.dto.userDto.TokenResponse;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
 import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
+import com.teamproject.workhub.service.userService.LoginBusyException;
 import com.teamproject.workhub.service.userService.UserService;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,10 +36,20 @@ public class UserController {
 
     private final UserService userService;
     private final EmployeeRepository employeeRepository;
+    private final LoginSessionManager loginSessionManager;
+    private final TokenProvider tokenProvider;
+
+    // session = 세션 저장소(쿠키), token = 서명 토큰(Authorization: Bearer)
+    @Value("${workhub.auth.mode:session}")
+    private String authMode;
 
     // 관리자: 사원 등록
     @PostMapping("/admin/register")
-    public ResponseEntity<String> register(@RequestBody RegisterRequest request) {
+    public ResponseEntity<String> register(@RequestBody RegisterRequest request,
+                                           @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
         userService.registerUser(request);
 
         return ResponseEntity.ok("사원 등록 완료 (사번: " + request.getEmployeeNo() + ", 비번: 1111");
@@ -39,64 +58,92 @@ public class UserController {
 
     // 로그인
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
-        User user = userService.login(loginRequest);
+    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request,
+                                   HttpServletResponse response) {
+        User user;
+        try {
+            user = userService.login(loginRequest);
+        } catch (LoginBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        }
 
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인 실패(정보 확인 필요");
 
         }
 
-        HttpSession session = request.getSession();
-        session.setAttribute("loginUser", user);
+        // 세션에는 엔티티 대신 식별자/권한만 담은 불변 객체를 보관
+        Employee employee = employeeRepository.findByUserId(user.getId()).orElse(null);
+        LoginPrincipal principal = LoginPrincipal.of(user, employee);
 
+        // 토큰 모드: 세션을 만들지 않고 access/refresh 토큰 발급
+        if (isTokenMode()) {
+            return ResponseEntity.ok(issueTokens(principal));
+        }
+
+        loginSessionManager.login(principal, request, response);
         return ResponseEntity.ok("로그인 성공!!");
     }
 
-    // 로그아웃
+    // 토큰 재발급 (토큰 모드 전용, refresh 토큰 검증 후 사용자 정보를 다시 읽어 권한 변경 반영)
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody TokenRefreshRequest refreshRequest) {
+        if (!isTokenMode()) {
+            return ResponseEntity.badRequest().body("토큰 모드가 아닙니다.");
+        }
+
+        Long userId = tokenProvider.parseRefreshToken(refreshRequest.getRefreshToken());
+        User user = userId != null ? userService.findActiveUser(userId) : null;
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("토큰이 만료되었거나 올바르지 않습니다.");
+        }
+
+        Employee employee = employeeRepository.findByUserId(user.getId()).orElse(null);
+        return ResponseEntity.ok(issueTokens(LoginPrincipal.of(user, employee)));
+    }
+
+    // 로그아웃 (토큰 모드는 서버에 상태가 없으므로 클라이언트가 토큰을 버리면 됨)
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null)
-            session.invalidate();
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response) {
+        if (!isTokenMode()) {
+            loginSessionManager.logout(request, response);
+        }
         return ResponseEntity.ok("로그아웃 성공!!!");
     }
 
-    // 세션 확인
-    @GetMapping("/check-login")
-    public ResponseEntity<?> checkLogin(HttpServletRequest request) { // Map<String, Object> -> ? 로 변경 (401 반환을 위해)
-        System.out.println("================ check-login 요청 들어옴 ================");
-
-        // 세션이 있는지 확인 (false: 없으면 null 반환)
-        HttpSession session = request.getSession(false);
+    private boolean isTokenMode() {
+        return "token".equalsIgnoreCase(authMode);
+    }
 
-        // 1. 세션 자체가 없는 경우 처리
-        if (session == null) {
-            System.out.println("세션이 없습니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
+    private TokenResponse issueTokens(LoginPrincipal principal) {
+        return new TokenResponse(
+                tokenProvider.issueAccessToken(principal),
+                tokenProvider.issueRefreshToken(principal.userId()),
+                "Bearer",
+                tokenProvider.getAccessTtlMs() / 1000);
+    }
 
-        // 2. 세션은 있지만 로그인 유저 정보가 없는 경우 처리
-        Object loginUserObj = session.getAttribute("loginUser");
-        if (loginUserObj == null) {
-            System.out.println("로그인 유저 정보가 세션에 없습니다.");
+    // 세션 확인
+    @GetMapping("/check-login")
+    public ResponseEntity<?> checkLogin(@LoginUser(required = false) LoginPrincipal loginUser) {
+        // 세션이 없거나 로그인 정보가 없는 경우
+        if (loginUser == null || loginUser.employeeId() == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        // 세션에서 User 객체 형변환
-        User user = (User) loginUserObj;
-
-        // User 정보로 Employee 정보 조회 (Optional 처리)
-        Employee employee = employeeRepository.findByUser(user)
+        // 사원 + 부서 정보 조회 (User 는 fetch join 으로 함께 로딩)
+        Employee employee = employeeRepository.findWithUserById(loginUser.employeeId())
                 .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
 
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
 
-        response.put("id", user.getId());
+        response.put("id", loginUser.userId());
         response.put("employeeId", employee.getEmployeeId());
-        response.put("employeeNo", user.getEmployeeNo());
-        response.put("role", user.getRole());
+        response.put("employeeNo", loginUser.employeeNo());
+        response.put("role", loginUser.role());
         response.put("name", employee.getName());
         response.put("email", employee.getEmail());
         response.put("phone", employee.getPhone());
@@ -115,10 +162,14 @@ public class UserController {
     // 사원 전체 조회
 
     @GetMapping("/admin/employees")
-    public List<EmployeeResponseDto> getEmployeeList() {
-        return userService.getAllEmployee().stream()
+    public ResponseEntity<?> getEmployeeList(@LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
+        List<EmployeeResponseDto> employees = userService.getAllEmployee().stream()
                 .map(employee -> EmployeeResponseDto.from(employee.getUser(), employee))
                 .collect(java.util.stream.Collectors.toList());
+        return ResponseEntity.ok(employees);
     }
 
     // Password 초기화
@@ -132,15 +183,10 @@ public class UserController {
 
     // 내 정보 수정 (이메일, 전화번호)
     @PutMapping("/user/info")
-    public ResponseEntity<String> updateUserInfo(@RequestBody EmployeeRequest request, HttpServletRequest httpRequest) {
-        HttpSession session = httpRequest.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
-
+    public ResponseEntity<String> updateUserInfo(@RequestBody EmployeeRequest request,
+                                                 @LoginUser LoginPrincipal loginUser) {
         try {
-            userService.updateUserInfo(loginUser, request);
+            userService.updateUserInfo(loginUser.userId(), request);
             return ResponseEntity.ok("정보가 수정되었습니다.");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -149,16 +195,11 @@ public class UserController {
 
     // 비밀번호 변경
     @PostMapping("/user/password")
-    public ResponseEntity<String> changePassword(@RequestBody PasswordRequest request, HttpServletRequest httpRequest) {
-        HttpSession session = httpRequest.getSession(false);
-        if (session == null || session.getAttribute("loginUser") == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
-        }
-        User loginUser = (User) session.getAttribute("loginUser");
-
+    public ResponseEntity<String> changePassword(@RequestBody PasswordRequest request,
+                                                 @LoginUser LoginPrincipal loginUser) {
         try {
-            userService.changePassword(loginUser, request.getOldPassword(), request.getNewPassword());
-            // 세션 정보 업데이트 (선택 사항, 비밀번호 해시는 세션에 저장된 객체에는 바로 반영 안될 수 있음, 재로그인 유도 등)
+            // 세션에는 비밀번호/변경필요 여부를 보관하지 않으므로 DB 만 갱신하면 됨
+            userService.changePassword(loginUser.userId(), request.getOldPassword(), request.getNewPassword());
             return ResponseEntity.ok("비밀번호가 변경되었습니다.");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -167,8 +208,16 @@ public class UserController {
 
     // 관리자: 비밀번호 초기화
     @PostMapping("/admin/reset-password/{userId}")
-    public ResponseEntity<String> resetPassword(@PathVariable Long userId) {
+    public ResponseEntity<String> resetPassword(@PathVariable Long userId,
+                                                @LoginUser(required = false) LoginPrincipal loginUser) {
+        if (!isAdmin(loginUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자 권한이 필요합니다.");
+        }
         String result = userService.resetPassword(userId);
         return ResponseEntity.ok(result);
     }
+
+    private boolean isAdmin(LoginPrincipal loginUser) {
+        return loginUser != null && loginUser.isAdmin();
+    }
 }
@@ -3,6 +3,8 @@ package com.teamproject.workhub.dto.adminDto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class AdminDashboardStatsResponse {
@@ -10,4 +12,5 @@ public class AdminDashboardStatsResponse {
     private long todayAttendanceCount;
     private long pendingCorrectionsCount;
     private double attendanceRate;
+    private LocalDateTime reconciledAt;   // 마지막 DB 보정 시각
 }
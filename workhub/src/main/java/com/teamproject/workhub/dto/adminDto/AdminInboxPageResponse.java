@@ -0,0 +1,34 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 관리자 승인함/목록 페이지 (다음 페이지 요청 시 nextCursor* 값을 그대로 전달)
+@Getter
+@Builder
+public class AdminInboxPageResponse {
+    private List<AdminRequestResponse> items;
+    private boolean hasNext;
+    private LocalDateTime nextCursorAt;
+    private String nextCursorType;
+    private Long nextCursorId;
+
+    // size+1 건 조회 결과를 한 페이지로 자름 (초과분이 있으면 마지막 행이 다음 커서)
+    public static AdminInboxPageResponse of(List<AdminRequestResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<AdminRequestResponse> items = hasNext ? rows.subList(0, size) : rows;
+        AdminInboxPageResponseBuilder page = AdminInboxPageResponse.builder()
+                .items(items)
+                .hasNext(hasNext);
+        if (hasNext) {
+            AdminRequestResponse last = items.get(items.size() - 1);
+            page.nextCursorAt(last.getCreatedAt())
+                    .nextCursorType(last.getType())
+                    .nextCursorId(last.getId());
+        }
+        return page.build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 관리자 정정 요청 목록 1행 (objection_requests + users + employee 조인 결과)
+@Getter
+public class AdminObjectionRow {
+    private final Long id;
+    private final String employeeNo;
+    private final String employeeName;
+    private final LocalDate attendanceDate;
+    private final String category;
+    private final String reason;
+    private final ObjectionStatus status;
+    private final LocalDateTime createdAt;
+    private final long version;
+
+    public AdminObjectionRow(Long id, String employeeNo, String employeeName, LocalDate attendanceDate,
+            String category, String reason, ObjectionStatus status, LocalDateTime createdAt,
+            long version) {
+        this.id = id;
+        this.employeeNo = employeeNo;
+        this.employeeName = employeeName;
+        this.attendanceDate = attendanceDate;
+        this.category = category;
+        this.reason = reason;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+
+    public AdminRequestResponse toResponse() {
+        return AdminRequestResponse.builder()
+                .id(id)
+                .type("OBJECTION")
+                .employeeNo(employeeNo)
+                .employeeName(employeeName != null ? employeeName : "알수없음")
+                .title("[이의신청] " + category)
+                .description("날짜: " + attendanceDate + "\n사유: " + reason)
+                .status(status.name())
+                .createdAt(createdAt)
+                .version(version)
+                .build();
+    }
+}
@@ -20,4 +20,5 @@ public class AdminRequestResponse {
     private String description;
     private String status;
     private LocalDateTime createdAt;
+    private Long version; // 일괄 처리 시 충돌 감지용 (업무는 null)
 }
@@ -0,0 +1,45 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 관리자 업무 승인 대기 목록 1행 (tasks + employee 조인 결과)
+@Getter
+public class AdminTaskRow {
+    private final Long id;
+    private final String employeeNo;
+    private final String employeeName;
+    private final String title;
+    private final String description;
+    private final LocalDate dueDate;
+    private final TaskStatus status;
+    private final LocalDateTime createdAt;
+
+    public AdminTaskRow(Long id, String employeeNo, String employeeName, String title, String description,
+            LocalDate dueDate, TaskStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.employeeNo = employeeNo;
+        this.employeeName = employeeName;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public AdminRequestResponse toResponse() {
+        return AdminRequestResponse.builder()
+                .id(id)
+                .type("TASK")
+                .employeeNo(employeeNo)
+                .employeeName(employeeName != null ? employeeName : "알수없음")
+                .title("[업무] " + title)
+                .description("마감일: " + dueDate + "\n내용: " + description)
+                .status(status.name())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import com.teamproject.workhub.entity.request.RequestStatus;
+import com.teamproject.workhub.entity.request.RequestType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 관리자 휴가/재택 신청 목록 1행 (requests + users + employee 조인 결과)
+@Getter
+public class AdminWorkRequestRow {
+    private final Long id;
+    private final String employeeNo;
+    private final String employeeName;
+    private final RequestType type;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String reason;
+    private final RequestStatus status;
+    private final LocalDateTime createdAt;
+    private final long version;
+
+    public AdminWorkRequestRow(Long id, String employeeNo, String employeeName, RequestType type,
+            LocalDate startDate, LocalDate endDate, String reason, RequestStatus status, LocalDateTime createdAt,
+            long version) {
+        this.id = id;
+        this.employeeNo = employeeNo;
+        this.employeeName = employeeName;
+        this.type = type;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reason = reason;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+
+    public AdminRequestResponse toResponse() {
+        boolean leave = type == RequestType.LEAVE;
+        return AdminRequestResponse.builder()
+                .id(id)
+                .type("WORK_REQUEST")
+                .employeeNo(employeeNo)
+                .employeeName(employeeName != null ? employeeName : "알수없음")
+                .title("[" + (leave ? "휴가" : "재택") + "] " + (leave ? "휴가 신청" : "재택근무 신청"))
+                .description("기간: " + startDate + " ~ " + endDate + "\n사유: " + reason)
+                .status(status.name())
+                .createdAt(createdAt)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+// 일괄 승인/거절 요청 (versions: 화면에서 조회한 시점의 id → version, 생략 시 버전 검사 안 함)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkStatusRequest {
+    private List<Long> ids;
+    private String status;
+    private Map<Long, Long> versions;
+}
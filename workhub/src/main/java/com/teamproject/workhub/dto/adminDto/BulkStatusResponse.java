@@ -0,0 +1,40 @@
+package com.teamproject.workhub.dto.adminDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 승인/거절 결과 (id 별 처리 결과 포함)
+@Getter
+@Builder
+public class BulkStatusResponse {
+    private int requested;
+    private int updated;
+    private List<Item> results;
+
+    public enum Outcome {
+        UPDATED,          // 변경됨
+        NOT_FOUND,        // 존재하지 않는 id
+        NOT_PENDING,      // 이미 처리된 건
+        VERSION_CONFLICT  // 조회 이후 다른 관리자가 변경
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Outcome outcome;
+        private String status;   // 처리 후(또는 현재) 상태
+        private Long version;    // 처리 후(또는 현재) 버전
+    }
+
+    public static BulkStatusResponse of(List<Item> results) {
+        return BulkStatusResponse.builder()
+                .requested(results.size())
+                .updated((int) results.stream().filter(item -> item.getOutcome() == Outcome.UPDATED).count())
+                .results(results)
+                .build();
+    }
+}
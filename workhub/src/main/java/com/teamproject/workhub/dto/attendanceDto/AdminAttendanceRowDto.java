@@ -0,0 +1,45 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 관리자 근태 목록용 읽기 모델 (사원/부서 컬럼을 한 번의 조회로 함께 가져옴)
+@Getter
+public class AdminAttendanceRowDto {
+    private final Long id;
+    private final LocalDate workDate;           // 근무 날짜
+    private final LocalTime checkInTime;        // 출근 시간
+    private final LocalTime checkOutTime;       // 퇴근 시간
+    private final String status;                // 근태 상태 (한글)
+    private final String statusCode;            // 근태 상태 코드 (NORMAL, LATE 등)
+    private final Double workHours;             // 근무 시간
+    private final String notes;                 // 비고
+    private final Long employeeId;
+    private final String employeeNo;
+    private final String name;
+    private final String departName;
+
+    // JPQL 생성자 표현식 (SELECT new ...) 에서 사용
+    public AdminAttendanceRowDto(Long id, LocalDate workDate, LocalTime checkInTime, LocalTime checkOutTime,
+            AttendanceStatus status, String notes,
+            Long employeeId, String employeeNo, String name, String departName) {
+        this.id = id;
+        this.workDate = workDate;
+        this.checkInTime = checkInTime;
+        this.checkOutTime = checkOutTime;
+        this.status = status.getDescription();
+        this.statusCode = status.name();
+        this.workHours = checkInTime != null && checkOutTime != null
+                ? Duration.between(checkInTime, checkOutTime).toMinutes() / 60.0
+                : 0.0;
+        this.notes = notes;
+        this.employeeId = employeeId;
+        this.employeeNo = employeeNo;
+        this.name = name;
+        this.departName = departName;
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendancePageResponse<T> {
+    private List<T> items;
+    private boolean hasNext;
+    private LocalDate nextCursorDate;     // 다음 페이지 요청 시 cursorDate
+    private Long nextCursorId;            // 다음 페이지 요청 시 cursorId
+}
@@ -19,6 +19,7 @@ public class AttendanceResponseDto {
     private String statusCode;            // 근태 상태 코드 (NORMAL, LATE 등)
     private Double workHours;             // 근무 시간
     private String notes;                 // 비고
+    private boolean missingCheckOut;      // 퇴근 미기록 여부
 
     public static AttendanceResponseDto from(Attendance attendance) {
         return AttendanceResponseDto.builder()
@@ -30,6 +31,7 @@ public class AttendanceResponseDto {
                 .statusCode(attendance.getStatus().name())
                 .workHours(attendance.getWorkHours())
                 .notes(attendance.getNotes())
+                .missingCheckOut(Boolean.TRUE.equals(attendance.getMissingCheckOut()))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceMonthlySummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendanceSummaryDto {
+    private int year;
+    private Integer month;                // 연간 집계면 null
+    private int daysWorked;               // 출근 일수
+    private int lateCount;                // 지각
+    private int earlyLeaveCount;          // 조퇴
+    private int absentCount;              // 결근
+    private long totalMinutes;            // 총 근무 시간 (분)
+    private double totalWorkHours;        // 총 근무 시간 (시간)
+
+    public static AttendanceSummaryDto from(AttendanceMonthlySummary summary) {
+        return AttendanceSummaryDto.builder()
+                .year(summary.getSummaryYear())
+                .month(summary.getSummaryMonth())
+                .daysWorked(summary.getDaysWorked())
+                .lateCount(summary.getLateCount())
+                .earlyLeaveCount(summary.getEarlyLeaveCount())
+                .absentCount(summary.getAbsentCount())
+                .totalMinutes(summary.getTotalMinutes())
+                .totalWorkHours(summary.getTotalMinutes() / 60.0)
+                .build();
+    }
+
+    // 기록이 없는 달
+    public static AttendanceSummaryDto empty(int year, Integer month) {
+        return AttendanceSummaryDto.builder()
+                .year(year)
+                .month(month)
+                .build();
+    }
+
+    // 월별 집계 합산 (최대 12행)
+    public static AttendanceSummaryDto ofYear(int year, List<AttendanceMonthlySummary> months) {
+        int daysWorked = 0;
+        int lateCount = 0;
+        int earlyLeaveCount = 0;
+        int absentCount = 0;
+        long totalMinutes = 0;
+        for (AttendanceMonthlySummary m : months) {
+            daysWorked += m.getDaysWorked();
+            lateCount += m.getLateCount();
+            earlyLeaveCount += m.getEarlyLeaveCount();
+            absentCount += m.getAbsentCount();
+            totalMinutes += m.getTotalMinutes();
+        }
+        return AttendanceSummaryDto.builder()
+                .year(year)
+                .daysWorked(daysWorked)
+                .lateCount(lateCount)
+                .earlyLeaveCount(earlyLeaveCount)
+                .absentCount(absentCount)
+                .totalMinutes(totalMinutes)
+                .totalWorkHours(totalMinutes / 60.0)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class DayCloseResultDto {
+    private LocalDate workDate;
+    private boolean skipped;              // 주말/공휴일 등 마감 대상이 아닌 날
+    private int absentInserted;           // 결근 처리 건수
+    private int openCheckInsFlagged;      // 퇴근 미기록 건수
+}
@@ -0,0 +1,25 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class DepartmentAttendanceAnalyticsDto {
+    private Long departNo;
+    private String departName;
+    private List<DayStat> days;
+
+    @Getter
+    @Builder
+    public static class DayStat {
+        private LocalDate workDate;
+        private Map<String, Long> statusCounts;  // 근태 상태 코드별 인원 (NORMAL, LATE 등)
+        private long total;
+        private double avgWorkHours;              // 퇴근 완료 기록 기준 평균 근무 시간
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import java.time.LocalDate;
+
+// 부서/일자/근태상태별 집계 결과 (AttendanceRepository 네이티브 GROUP BY 프로젝션)
+public interface DepartmentAttendanceStatRow {
+    Long getDepartNo();
+
+    String getDepartName();
+
+    LocalDate getWorkDate();
+
+    String getStatus();
+
+    Long getCnt();
+
+    Long getWorkedMinutes();      // 퇴근까지 완료된 기록의 근무 시간 합 (분)
+
+    Long getCompletedCount();     // 퇴근까지 완료된 기록 수
+}
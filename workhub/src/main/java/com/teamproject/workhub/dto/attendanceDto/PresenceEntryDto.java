@@ -0,0 +1,23 @@
+package com.teamproject.workhub.dto.attendanceDto;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+// 오늘 출근 현황 한 건 (실시간 현황판 스냅샷/변경분 공통)
+@Getter
+public class PresenceEntryDto {
+    private final Long employeeId;
+    private final String statusCode;
+    private final LocalTime checkInTime;
+    private final LocalTime checkOutTime;
+
+    // JPQL 생성자 표현식 (SELECT new ...) 에서도 사용
+    public PresenceEntryDto(Long employeeId, AttendanceStatus status, LocalTime checkInTime, LocalTime checkOutTime) {
+        this.employeeId = employeeId;
+        this.statusCode = status.name();
+        this.checkInTime = checkInTime;
+        this.checkOutTime = checkOutTime;
+    }
+}
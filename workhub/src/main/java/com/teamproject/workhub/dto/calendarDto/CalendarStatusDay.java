@@ -0,0 +1,9 @@
+package com.teamproject.workhub.dto.calendarDto;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+
+import java.time.LocalDate;
+
+// 부서 캘린더 적재용: 휴가/병가/출장 근태 1일 (attendance + employee 조인 결과)
+public record CalendarStatusDay(Long employeeId, String name, LocalDate workDate, AttendanceStatus status) {
+}
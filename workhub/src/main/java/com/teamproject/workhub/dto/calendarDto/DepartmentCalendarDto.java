@@ -0,0 +1,31 @@
+package com.teamproject.workhub.dto.calendarDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 부서 월간 캘린더 (일자별 부재/재택 사원)
+@Getter
+@AllArgsConstructor
+public class DepartmentCalendarDto {
+    private Long departNo;
+    private String month;
+    private List<Day> days;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private List<Entry> entries;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private Long employeeId;
+        private String name;
+        private String kind; // LEAVE, REMOTE, VACATION, SICK_LEAVE, BUSINESS_TRIP
+    }
+}
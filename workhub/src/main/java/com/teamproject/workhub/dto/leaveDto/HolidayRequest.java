@@ -0,0 +1,15 @@
+package com.teamproject.workhub.dto.leaveDto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class HolidayRequest {
+    private LocalDate holidayDate;
+    private String name;
+}
@@ -0,0 +1,26 @@
+package com.teamproject.workhub.dto.leaveDto;
+
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import lombok.Builder;
+import lombok.Getter;
+
+// 휴가 잔여 (employee 한 행에서 바로 계산)
+@Getter
+@Builder
+public class LeaveBalanceDto {
+    private Long employeeId;
+    private double totalLeave;
+    private double usedLeave;
+    private double remainingLeave;
+
+    public static LeaveBalanceDto from(Employee employee) {
+        double total = employee.getTotalLeave() != null ? employee.getTotalLeave() : 0.0;
+        double used = employee.getUsedLeave() != null ? employee.getUsedLeave() : 0.0;
+        return LeaveBalanceDto.builder()
+                .employeeId(employee.getEmployeeId())
+                .totalLeave(total)
+                .usedLeave(used)
+                .remainingLeave(total - used)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.teamproject.workhub.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 부서 월간 휴가/재택 현황 (일자별 사원 ID)
+@Getter
+@AllArgsConstructor
+public class DepartmentCoverageDto {
+    private Long departNo;
+    private String month;
+    private List<Day> days;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private List<Long> onLeave;
+        private List<Long> remote;
+    }
+}
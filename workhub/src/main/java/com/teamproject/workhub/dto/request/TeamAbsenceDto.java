@@ -0,0 +1,27 @@
+package com.teamproject.workhub.dto.request;
+
+import com.teamproject.workhub.entity.request.RequestType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 부서원 승인된 휴가/재택 1건 (requests + employee 조인 결과)
+@Getter
+public class TeamAbsenceDto {
+    private final Long employeeId;
+    private final String employeeNo;
+    private final String name;
+    private final RequestType type;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public TeamAbsenceDto(Long employeeId, String employeeNo, String name, RequestType type,
+            LocalDate startDate, LocalDate endDate) {
+        this.employeeId = employeeId;
+        this.employeeNo = employeeNo;
+        this.name = name;
+        this.type = type;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
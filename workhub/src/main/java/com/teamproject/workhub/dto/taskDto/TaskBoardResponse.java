@@ -0,0 +1,23 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 칸반 보드: 상태(컬럼)별 전체 건수 + 앞에서부터 limit 건
+@Getter
+@AllArgsConstructor
+public class TaskBoardResponse {
+    private int limit;
+    private List<Column> columns; // TaskStatus 선언 순서, 업무가 없는 상태도 count 0 으로 포함
+
+    @Getter
+    @AllArgsConstructor
+    public static class Column {
+        private TaskStatus status;
+        private long count;
+        private List<TaskResponseDto> tasks; // priority 오름차순(1 이 가장 높음), dueDate 빠른 순
+    }
+}
@@ -0,0 +1,17 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 업무 일괄 처리 요청 (status: 상태 변경 시, employeeId: 담당자 변경 시)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkRequest {
+    private List<Long> ids;
+    private String status;
+    private Long employeeId;
+}
@@ -0,0 +1,43 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 업무 일괄 처리 결과 (id 별 처리 결과 포함)
+@Getter
+@Builder
+public class TaskBulkResponse {
+    private int requested;
+    private int succeeded;
+    private List<Item> results;
+
+    public enum Outcome {
+        UPDATED,    // 변경됨
+        UNCHANGED,  // 이미 요청한 값
+        DELETED,    // 삭제됨
+        NOT_FOUND,  // 존재하지 않는 id
+        FORBIDDEN   // 본인 업무가 아님
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Outcome outcome;
+    }
+
+    public static TaskBulkResponse of(List<Item> results) {
+        return TaskBulkResponse.builder()
+                .requested(results.size())
+                .succeeded((int) results.stream()
+                        .filter(item -> item.getOutcome() == Outcome.UPDATED
+                                || item.getOutcome() == Outcome.DELETED
+                                || item.getOutcome() == Outcome.UNCHANGED)
+                        .count())
+                .results(results)
+                .build();
+    }
+}
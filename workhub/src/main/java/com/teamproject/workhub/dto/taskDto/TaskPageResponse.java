@@ -0,0 +1,14 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskPageResponse {
+    private List<TaskResponseDto> items;
+    private boolean hasNext;
+    private Long nextCursorId; // 다음 페이지 요청 시 cursorId
+}
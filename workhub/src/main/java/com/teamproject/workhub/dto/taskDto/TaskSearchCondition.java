@@ -0,0 +1,30 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 업무 검색 조건 (모두 선택, 지정한 조건만 AND)
+// 키셋 페이징: 첫 페이지는 cursorId 없이, 다음 페이지는 응답의 nextCursorId 전달
+@Getter
+@Setter
+public class TaskSearchCondition {
+    private TaskStatus status;
+    private Integer priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    private Long employeeId;
+    private Long departNo;
+    private String keyword; // 제목/설명 부분 일치
+
+    private Long cursorId;
+    private int size = 50;
+}
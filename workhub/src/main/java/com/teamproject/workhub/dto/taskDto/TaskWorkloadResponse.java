@@ -0,0 +1,30 @@
+package com.teamproject.workhub.dto.taskDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 업무 배정용 부하 현황 (미완료 업무 기준)
+@Getter
+@AllArgsConstructor
+public class TaskWorkloadResponse {
+    private List<Row> employees;   // 재직 중인 사원 전체 (업무가 없으면 0)
+    private List<Row> departments;
+
+    @Getter
+    @Builder
+    public static class Row {
+        private Long id;           // employeeId 또는 departNo
+        private String name;
+        private Long departNo;
+        private int openCount;
+        private int priority1;
+        private int priority2;
+        private int priority3;
+        private int otherPriority; // 그 외/미지정
+        private LocalDate nearestDueDate;
+    }
+}
@@ -0,0 +1,23 @@
+package com.teamproject.workhub.dto.userDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 로그인 처리량/지연 시간 (since 이후 누적)
+@Getter
+@Builder
+public class LoginMetricsResponse {
+    private LocalDateTime since;
+    private long success;
+    private long failure;
+    private long rejected; // 검증 풀 포화로 503 응답한 건수
+    private double throughputPerSecond; // (성공 + 실패) / 경과 시간
+    private long loginP50Ms;
+    private long loginP99Ms;
+    private long verifyP50Ms; // BCrypt 검증만 (풀 대기 제외)
+    private long verifyP99Ms;
+    private int activeVerifications;
+    private int queuedVerifications;
+}
@@ -0,0 +1,10 @@
+package com.teamproject.workhub.dto.userDto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenRefreshRequest {
+    private String refreshToken;
+}
@@ -0,0 +1,14 @@
+package com.teamproject.workhub.dto.userDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 모드 로그인/재발급 응답
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private long expiresIn; // access 토큰 유효 시간 (초)
+}
@@ -17,7 +17,14 @@ import java.time.LocalTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "attendance")
+@Table(name = "attendance", uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_employee_work_date", columnNames = { "employee_id", "work_date" }),
+        indexes = {
+                @Index(name = "idx_attendance_work_date_id", columnList = "work_date, id"),
+                // 부서별 통계 집계용 커버링 인덱스 (테이블 본문 접근 없이 GROUP BY)
+                @Index(name = "idx_attendance_analytics",
+                        columnList = "work_date, employee_id, status, check_in_time, check_out_time")
+        })
 public class Attendance {
 
     @Id
@@ -44,6 +51,9 @@ public class Attendance {
     @Column(name = "notes")
     private String notes; // 비고 (사유 등)
 
+    @Column(name = "missing_check_out")
+    private Boolean missingCheckOut; // 퇴근 미기록 (일 마감 시 표시)
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,52 @@
+package com.teamproject.workhub.entity.attendanceEntity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사원별 월간 근태 집계 (attendance 변경 시 해당 사원/월 한 행만 갱신)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "attendance_monthly_summary", uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_summary_employee_month",
+        columnNames = { "employee_id", "summary_year", "summary_month" }))
+public class AttendanceMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "summary_year", nullable = false)
+    private Integer summaryYear;
+
+    @Column(name = "summary_month", nullable = false)
+    private Integer summaryMonth;
+
+    @Column(name = "days_worked", nullable = false)
+    private Integer daysWorked; // 출근 일수
+
+    @Column(name = "late_count", nullable = false)
+    private Integer lateCount; // 지각
+
+    @Column(name = "early_leave_count", nullable = false)
+    private Integer earlyLeaveCount; // 조퇴
+
+    @Column(name = "absent_count", nullable = false)
+    private Integer absentCount; // 결근
+
+    @Column(name = "total_minutes", nullable = false)
+    private Long totalMinutes; // 총 근무 시간 (분)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.teamproject.workhub.entity.leaveEntity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 공휴일 (휴가 일수 계산 시 주말과 함께 제외)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "holiday", uniqueConstraints = @UniqueConstraint(
+        name = "uk_holiday_date", columnNames = { "holiday_date" }))
+public class Holiday {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false)
+    private String name;
+}
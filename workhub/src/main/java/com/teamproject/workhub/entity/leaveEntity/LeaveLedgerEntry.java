@@ -0,0 +1,49 @@
+package com.teamproject.workhub.entity.leaveEntity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 휴가 원장 (추가만 하고 수정/삭제하지 않음, 잔여 일수는 employee.total_leave / used_leave 에 같은 트랜잭션으로 반영)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "leave_ledger", indexes = {
+        @Index(name = "idx_leave_ledger_employee_created", columnList = "employee_id, created_at"),
+        @Index(name = "idx_leave_ledger_request", columnList = "request_id")
+})
+public class LeaveLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "request_id")
+    private Long requestId; // 연간 부여는 null
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LeaveLedgerType entryType;
+
+    @Column(nullable = false)
+    private Double days; // 근무일 기준 일수 (항상 양수, 증감 방향은 entryType)
+
+    @Column(name = "leave_year", nullable = false)
+    private Integer leaveYear;
+
+    private String memo;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,7 @@
+package com.teamproject.workhub.entity.leaveEntity;
+
+public enum LeaveLedgerType {
+    DEBIT,   // 휴가 승인 (사용)
+    CREDIT,  // 승인 휴가 취소/반려 (환원)
+    ACCRUAL  // 연간 부여
+}
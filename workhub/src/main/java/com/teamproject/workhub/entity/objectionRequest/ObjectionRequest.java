@@ -13,7 +13,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "objection_requests")
+@Table(name = "objection_requests", indexes = {
+        // 관리자 승인함: 상태별 최신순 범위 스캔
+        @Index(name = "idx_objection_requests_status_created_at", columnList = "status, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,7 +27,7 @@ public class ObjectionRequest {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -41,4 +44,9 @@ public class ObjectionRequest {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    // 낙관적 잠금 버전 (관리자 동시 승인/거절 충돌 감지, 기존 행은 0 으로 채워짐)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
@@ -10,7 +10,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "requests")
+@Table(name = "requests", indexes = {
+        // 관리자 승인함: 상태별 최신순 범위 스캔
+        @Index(name = "idx_requests_status_created_at", columnList = "status, created_at"),
+        // 신청 기간 중복 검사: 사용자별 기간 범위 스캔
+        @Index(name = "idx_requests_user_period", columnList = "user_id, startDate, endDate")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +26,7 @@ public class Request {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -45,4 +50,9 @@ public class Request {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    // 낙관적 잠금 버전 (관리자 동시 승인/거절 충돌 감지, 기존 행은 0 으로 채워짐)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
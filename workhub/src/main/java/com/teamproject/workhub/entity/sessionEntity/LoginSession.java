@@ -0,0 +1,38 @@
+package com.teamproject.workhub.entity.sessionEntity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 로그인 세션 저장소 테이블 (여러 서버가 공유, 읽기/쓰기는 JdbcSessionStore 에서 JDBC 로 처리)
+// 엔티티는 ddl-auto 로 테이블을 만들기 위한 용도
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "login_session", indexes = {
+        @Index(name = "idx_login_session_expires", columnList = "expires_at")
+})
+public class LoginSession {
+
+    @Id
+    @Column(name = "session_id", length = 64)
+    private String sessionId;
+
+    // LoginPrincipalCodec 으로 직렬화한 로그인 정보 (수십 바이트)
+    @Column(nullable = false, length = 255)
+    private byte[] principal;
+
+    // 시각은 모두 epoch millis
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    @Column(name = "last_access_at", nullable = false)
+    private Long lastAccessAt;
+
+    @Column(name = "max_inactive_ms", nullable = false)
+    private Long maxInactiveMs;
+
+    // last_access_at + max_inactive_ms (만료 세션 정리용 인덱스)
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
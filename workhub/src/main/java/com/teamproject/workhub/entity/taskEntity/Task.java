@@ -7,7 +7,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // 관리자 승인함: 상태별 최신순 범위 스캔
+        @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at"),
+        // 업무 검색: 담당자/부서별 상태 조회 (InnoDB 보조 인덱스에 id 가 붙으므로 id 키셋 정렬까지 인덱스로 처리)
+        @Index(name = "idx_tasks_employee_status", columnList = "employeeId, status"),
+        @Index(name = "idx_tasks_depart_status", columnList = "departNo, status"),
+        // 사원 정보 없는 계정의 본인 업무 (담당자 미지정)
+        @Index(name = "idx_tasks_user_employee", columnList = "UserId, employeeId"),
+        // 마감 알림: 미완료 상태의 마감일 범위 조회
+        @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,59 @@
+package com.teamproject.workhub.entity.taskEntity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 업무 마감 알림 아웃박스 (TaskDueScheduler 가 적재 → TaskReminderDispatcher 가 발송)
+// 같은 업무/종류/마감일은 한 번만 적재 (재처리되어도 중복 알림 없음)
+// 읽기/쓰기는 JDBC 로 처리, 엔티티는 ddl-auto 로 테이블을 만들기 위한 용도
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "task_reminder_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_reminder",
+                columnNames = { "task_id", "reminder_type", "due_date" }),
+        indexes = @Index(name = "idx_task_reminder_status_id", columnList = "status, id"))
+public class TaskReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reminder_type", nullable = false, length = 20)
+    private TaskReminderType reminderType;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskReminderStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
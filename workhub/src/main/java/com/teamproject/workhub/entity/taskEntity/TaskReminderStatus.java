@@ -0,0 +1,7 @@
+package com.teamproject.workhub.entity.taskEntity;
+
+public enum TaskReminderStatus {
+    PENDING, // 발송 대기
+    SENT,    // 발송 완료
+    FAILED   // 최대 재시도 초과
+}
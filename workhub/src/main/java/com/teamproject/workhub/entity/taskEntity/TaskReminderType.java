@@ -0,0 +1,6 @@
+package com.teamproject.workhub.entity.taskEntity;
+
+public enum TaskReminderType {
+    DUE_SOON, // 마감 임박 (workhub.task.reminder.lead-days 이내)
+    OVERDUE   // 마감일 경과
+}
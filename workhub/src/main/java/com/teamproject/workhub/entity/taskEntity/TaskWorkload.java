@@ -0,0 +1,53 @@
+package com.teamproject.workhub.entity.taskEntity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 미완료(TODO, IN_PROGRESS) 업무 부하 카운터 (사원별 / 부서별 1행)
+// 업무 등록/수정/삭제 시 같은 트랜잭션에서 증감 (TaskWorkloadService), 매일 tasks 기준으로 재계산
+// 읽기/쓰기는 JDBC 로 처리, 엔티티는 ddl-auto 로 테이블을 만들기 위한 용도
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "task_workload",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_workload_scope", columnNames = { "scope_type", "scope_id" }))
+public class TaskWorkload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false, length = 20)
+    private WorkloadScope scopeType;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "open_count", nullable = false)
+    private Integer openCount;
+
+    // 우선순위별 건수 (1, 2, 3, 그 외/미지정)
+    @Column(name = "p1_count", nullable = false)
+    private Integer p1Count;
+
+    @Column(name = "p2_count", nullable = false)
+    private Integer p2Count;
+
+    @Column(name = "p3_count", nullable = false)
+    private Integer p3Count;
+
+    @Column(name = "other_count", nullable = false)
+    private Integer otherCount;
+
+    // 가장 가까운 마감일 (마감일 있는 미완료 업무가 없으면 null)
+    @Column(name = "nearest_due_date")
+    private LocalDate nearestDueDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
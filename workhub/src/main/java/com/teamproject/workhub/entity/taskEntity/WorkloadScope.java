@@ -0,0 +1,6 @@
+package com.teamproject.workhub.entity.taskEntity;
+
+public enum WorkloadScope {
+    EMPLOYEE,   // scope_id = tasks.employeeId
+    DEPARTMENT  // scope_id = tasks.departNo
+}
@@ -0,0 +1,8 @@
+package com.teamproject.workhub.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 출근 처리 완료 (같은 사원/날짜로 여러 번 발생할 수 있음 → 수신 측에서 멱등 처리)
+public record AttendanceCheckedInEvent(Long employeeId, LocalDate workDate, LocalTime checkInTime) {
+}
@@ -0,0 +1,11 @@
+package com.teamproject.workhub.event;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 퇴근 처리 완료 (근태 상태 확정)
+public record AttendanceCheckedOutEvent(Long employeeId, LocalDate workDate, AttendanceStatus status,
+        LocalTime checkInTime, LocalTime checkOutTime) {
+}
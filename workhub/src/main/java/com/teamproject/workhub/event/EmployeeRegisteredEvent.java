@@ -0,0 +1,5 @@
+package com.teamproject.workhub.event;
+
+// 사원 등록 완료
+public record EmployeeRegisteredEvent(Long employeeId) {
+}
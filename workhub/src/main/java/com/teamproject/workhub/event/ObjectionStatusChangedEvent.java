@@ -0,0 +1,7 @@
+package com.teamproject.workhub.event;
+
+import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
+
+// 정정 요청 상태 변경 (신규 등록은 from == null, 삭제는 to == null)
+public record ObjectionStatusChangedEvent(Long objectionId, ObjectionStatus from, ObjectionStatus to) {
+}
@@ -0,0 +1,7 @@
+package com.teamproject.workhub.event;
+
+import com.teamproject.workhub.entity.request.RequestStatus;
+
+// 휴가/재택 신청 상태 변경 (신규 등록은 from == null)
+public record RequestStatusChangedEvent(Long requestId, RequestStatus from, RequestStatus to) {
+}
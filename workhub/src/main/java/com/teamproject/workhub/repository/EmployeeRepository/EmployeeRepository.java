@@ -4,10 +4,12 @@ import com.teamproject.workhub.entity.employeeEntity.Employee;
 import com.teamproject.workhub.entity.userEntity.Role;
 import com.teamproject.workhub.entity.userEntity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +23,17 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query("SELECT e FROM Employee e WHERE e.user.id = :userId")
     Optional<Employee> findByUserId(@Param("userId") Long userId);
+
+    // 내 정보 화면용: 사용자/부서까지 한 번에 조회
+    @Query("SELECT e FROM Employee e JOIN FETCH e.user LEFT JOIN FETCH e.department WHERE e.employeeId = :employeeId")
+    Optional<Employee> findWithUserById(@Param("employeeId") Long employeeId);
+
+    @Query("SELECT e FROM Employee e WHERE e.user.id IN :userIds")
+    List<Employee> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 휴가 사용 일수 증감 (원장 기록과 같은 트랜잭션, 음수면 환원)
+    @Modifying
+    @Query(value = "UPDATE employee SET used_leave = COALESCE(used_leave, 0) + :days WHERE employeeId = :employeeId",
+            nativeQuery = true)
+    int addUsedLeave(@Param("employeeId") Long employeeId, @Param("days") double days);
 }
@@ -0,0 +1,90 @@
+package com.teamproject.workhub.repository.attendanceRepository;
+
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceMonthlySummaryRepository extends JpaRepository<AttendanceMonthlySummary, Long> {
+
+        Optional<AttendanceMonthlySummary> findByEmployeeIdAndSummaryYearAndSummaryMonth(
+                        Long employeeId, Integer summaryYear, Integer summaryMonth);
+
+        List<AttendanceMonthlySummary> findByEmployeeIdAndSummaryYearOrderBySummaryMonth(
+                        Long employeeId, Integer summaryYear);
+
+        // 근태 행이 모두 사라진 사원/월은 UPSERT 로 갱신되지 않으므로 재계산 전에 먼저 삭제
+        @Modifying(flushAutomatically = true)
+        @Query("DELETE FROM AttendanceMonthlySummary s WHERE s.employeeId IN :employeeIds "
+                        + "AND s.summaryYear = :year AND s.summaryMonth = :month")
+        int deleteForEmployees(@Param("employeeIds") Collection<Long> employeeIds,
+                        @Param("year") int year,
+                        @Param("month") int month);
+
+        @Modifying(flushAutomatically = true)
+        @Query("DELETE FROM AttendanceMonthlySummary s WHERE s.summaryYear = :year AND s.summaryMonth = :month")
+        int deleteMonth(@Param("year") int year, @Param("month") int month);
+
+        // 지정한 사원들의 해당 월 집계를 attendance 에서 다시 계산해 UPSERT
+        // (사원당 한 달치 20~30행만 (employee_id, work_date) 인덱스로 읽음)
+        @Modifying(flushAutomatically = true)
+        @Query(value = "INSERT INTO attendance_monthly_summary "
+                        + "(employee_id, summary_year, summary_month, days_worked, late_count, "
+                        + " early_leave_count, absent_count, total_minutes, updated_at) "
+                        + "SELECT * FROM ("
+                        + "  SELECT a.employee_id, :year AS summary_year, :month AS summary_month, "
+                        + "         SUM(a.check_in_time IS NOT NULL) AS days_worked, "
+                        + "         SUM(a.status = 'LATE') AS late_count, "
+                        + "         SUM(a.status = 'EARLY_LEAVE') AS early_leave_count, "
+                        + "         SUM(a.status = 'ABSENT') AS absent_count, "
+                        + "         COALESCE(SUM(TIME_TO_SEC(TIMEDIFF(a.check_out_time, a.check_in_time)) DIV 60), 0) "
+                        + "           AS total_minutes, "
+                        + "         NOW() AS updated_at "
+                        + "  FROM attendance a "
+                        + "  WHERE a.employee_id IN (:employeeIds) "
+                        + "    AND a.work_date BETWEEN :startDate AND :endDate "
+                        + "  GROUP BY a.employee_id"
+                        + ") s "
+                        + "ON DUPLICATE KEY UPDATE days_worked = s.days_worked, late_count = s.late_count, "
+                        + "early_leave_count = s.early_leave_count, absent_count = s.absent_count, "
+                        + "total_minutes = s.total_minutes, updated_at = s.updated_at", nativeQuery = true)
+        int refreshForEmployees(@Param("employeeIds") Collection<Long> employeeIds,
+                        @Param("year") int year,
+                        @Param("month") int month,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        // 백필용: 해당 월 전체 사원 집계 재계산
+        @Modifying(flushAutomatically = true)
+        @Query(value = "INSERT INTO attendance_monthly_summary "
+                        + "(employee_id, summary_year, summary_month, days_worked, late_count, "
+                        + " early_leave_count, absent_count, total_minutes, updated_at) "
+                        + "SELECT * FROM ("
+                        + "  SELECT a.employee_id, :year AS summary_year, :month AS summary_month, "
+                        + "         SUM(a.check_in_time IS NOT NULL) AS days_worked, "
+                        + "         SUM(a.status = 'LATE') AS late_count, "
+                        + "         SUM(a.status = 'EARLY_LEAVE') AS early_leave_count, "
+                        + "         SUM(a.status = 'ABSENT') AS absent_count, "
+                        + "         COALESCE(SUM(TIME_TO_SEC(TIMEDIFF(a.check_out_time, a.check_in_time)) DIV 60), 0) "
+                        + "           AS total_minutes, "
+                        + "         NOW() AS updated_at "
+                        + "  FROM attendance a "
+                        + "  WHERE a.work_date BETWEEN :startDate AND :endDate "
+                        + "  GROUP BY a.employee_id"
+                        + ") s "
+                        + "ON DUPLICATE KEY UPDATE days_worked = s.days_worked, late_count = s.late_count, "
+                        + "early_leave_count = s.early_leave_count, absent_count = s.absent_count, "
+                        + "total_minutes = s.total_minutes, updated_at = s.updated_at", nativeQuery = true)
+        int rebuildMonth(@Param("year") int year,
+                        @Param("month") int month,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+}
@@ -1,13 +1,24 @@
 package com.teamproject.workhub.repository.attendanceRepository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.teamproject.workhub.dto.attendanceDto.AdminAttendanceRowDto;
+import com.teamproject.workhub.dto.attendanceDto.DepartmentAttendanceStatRow;
+import com.teamproject.workhub.dto.attendanceDto.PresenceEntryDto;
+import com.teamproject.workhub.dto.calendarDto.CalendarStatusDay;
 import com.teamproject.workhub.entity.attendanceEntity.Attendance;
 import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
@@ -30,4 +41,126 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
                         Employee employee, LocalDate startOfMonth, LocalDate endOfMonth);
 
         long countByWorkDate(LocalDate workDate);
+
+        // 사원 ID 기준 조회 (Employee 선조회 없이 FK 컬럼으로 바로 조회)
+        @Query("SELECT a FROM Attendance a WHERE a.employee.employeeId = :employeeId ORDER BY a.workDate DESC")
+        List<Attendance> findByEmployeeIdOrderByWorkDateDesc(@Param("employeeId") Long employeeId);
+
+        @Query("SELECT a FROM Attendance a WHERE a.employee.employeeId = :employeeId "
+                        + "AND a.workDate BETWEEN :startDate AND :endDate ORDER BY a.workDate DESC")
+        List<Attendance> findByEmployeeIdAndWorkDateBetweenOrderByWorkDateDesc(
+                        @Param("employeeId") Long employeeId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        @Query("SELECT a FROM Attendance a WHERE a.employee.employeeId = :employeeId "
+                        + "AND a.workDate BETWEEN :startDate AND :endDate")
+        List<Attendance> findByEmployeeIdAndWorkDateBetween(
+                        @Param("employeeId") Long employeeId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        @Query("SELECT a FROM Attendance a WHERE a.employee.employeeId = :employeeId "
+                        + "AND a.status = :status ORDER BY a.workDate DESC")
+        List<Attendance> findByEmployeeIdAndStatusOrderByWorkDateDesc(
+                        @Param("employeeId") Long employeeId, @Param("status") AttendanceStatus status);
+
+        // (employee_id, work_date) 유니크 → 하루 최대 1건
+        @Query("SELECT a FROM Attendance a WHERE a.employee.employeeId = :employeeId AND a.workDate = :workDate")
+        Optional<Attendance> findByEmployeeIdAndWorkDate(
+                        @Param("employeeId") Long employeeId, @Param("workDate") LocalDate workDate);
+
+        // 출근 기록 INSERT (이미 오늘 기록이 있으면 아무것도 하지 않음)
+        @Modifying
+        @Query(value = "INSERT INTO attendance (employee_id, work_date, check_in_time, status, notes, created_at) "
+                        + "VALUES (:employeeId, :workDate, :checkInTime, :status, :notes, NOW()) "
+                        + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+        int insertCheckInIfAbsent(@Param("employeeId") Long employeeId,
+                        @Param("workDate") LocalDate workDate,
+                        @Param("checkInTime") LocalTime checkInTime,
+                        @Param("status") String status,
+                        @Param("notes") String notes);
+
+        // 관리자용: (workDate, id) 키셋 페이지 조회 (최신순, 필터는 null이면 미적용)
+        // 사원/부서를 조인한 DTO 프로젝션 → 페이지당 SELECT 1회 (Employee 지연 로딩 없음)
+        @Query("SELECT new com.teamproject.workhub.dto.attendanceDto.AdminAttendanceRowDto("
+                        + "a.id, a.workDate, a.checkInTime, a.checkOutTime, a.status, a.notes, "
+                        + "e.employeeId, e.employeeNo, e.name, d.departName) "
+                        + "FROM Attendance a JOIN a.employee e LEFT JOIN e.department d "
+                        + "WHERE (:startDate IS NULL OR a.workDate >= :startDate) "
+                        + "AND (:endDate IS NULL OR a.workDate <= :endDate) "
+                        + "AND (:departNo IS NULL OR d.departNo = :departNo) "
+                        + "AND (:status IS NULL OR a.status = :status) "
+                        + "AND (:cursorDate IS NULL OR a.workDate < :cursorDate "
+                        + "     OR (a.workDate = :cursorDate AND a.id < :cursorId)) "
+                        + "ORDER BY a.workDate DESC, a.id DESC")
+        List<AdminAttendanceRowDto> findPageForAdmin(@Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("departNo") Long departNo,
+                        @Param("status") AttendanceStatus status,
+                        @Param("cursorDate") LocalDate cursorDate,
+                        @Param("cursorId") Long cursorId,
+                        Limit limit);
+
+        // 관리자용: 부서/일자/상태별 인원 및 근무 시간 합계 (DB에서 GROUP BY)
+        // employee/department 컬럼은 엔티티 이름 그대로 (employeeId, departNo, departName)
+        @Query(value = "SELECT e.departNo AS departNo, d.departName AS departName, "
+                        + "a.work_date AS workDate, a.status AS status, COUNT(*) AS cnt, "
+                        + "COALESCE(SUM(FLOOR(TIME_TO_SEC(TIMEDIFF(a.check_out_time, a.check_in_time)) / 60)), 0) "
+                        + "  AS workedMinutes, "
+                        + "SUM(CASE WHEN a.check_in_time IS NOT NULL AND a.check_out_time IS NOT NULL THEN 1 ELSE 0 END) "
+                        + "  AS completedCount "
+                        + "FROM attendance a "
+                        + "JOIN employee e ON e.employeeId = a.employee_id "
+                        + "LEFT JOIN department d ON d.departNo = e.departNo "
+                        + "WHERE a.work_date BETWEEN :startDate AND :endDate "
+                        + "GROUP BY e.departNo, d.departName, a.work_date, a.status "
+                        + "ORDER BY e.departNo, a.work_date", nativeQuery = true)
+        List<DepartmentAttendanceStatRow> aggregateByDepartmentAndDay(
+                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+        // 실시간 현황판 스냅샷: 특정 날짜 출근 현황 (필요한 컬럼만)
+        @Query("SELECT new com.teamproject.workhub.dto.attendanceDto.PresenceEntryDto("
+                        + "a.employee.employeeId, a.status, a.checkInTime, a.checkOutTime) "
+                        + "FROM Attendance a WHERE a.workDate = :workDate")
+        List<PresenceEntryDto> findPresenceByWorkDate(@Param("workDate") LocalDate workDate);
+
+        // 일 마감: 출근 기록도 승인된 휴가도 없는 재직 중 사원에게 결근 행 일괄 INSERT
+        @Modifying
+        @Query(value = "INSERT INTO attendance (employee_id, work_date, status, notes, created_at) "
+                        + "SELECT e.employeeId, :workDate, 'ABSENT', :notes, NOW() "
+                        + "FROM employee e JOIN users u ON u.id = e.id "
+                        + "WHERE u.is_active = 1 "
+                        + "  AND (e.join_date IS NULL OR e.join_date <= :workDate) "
+                        + "  AND (e.resignation_date IS NULL OR e.resignation_date > :workDate) "
+                        + "  AND NOT EXISTS (SELECT 1 FROM attendance a "
+                        + "                  WHERE a.employee_id = e.employeeId AND a.work_date = :workDate) "
+                        + "  AND NOT EXISTS (SELECT 1 FROM requests r "
+                        + "                  WHERE r.user_id = e.id AND r.type = 'LEAVE' AND r.status = 'APPROVED' "
+                        + "                    AND :workDate BETWEEN r.startDate AND r.endDate) "
+                        + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+        int insertAbsentRows(@Param("workDate") LocalDate workDate, @Param("notes") String notes);
+
+        // 일 마감: 출근만 하고 퇴근하지 않은 기록 표시
+        @Modifying
+        @Query(value = "UPDATE attendance SET missing_check_out = 1, updated_at = NOW() "
+                        + "WHERE work_date = :workDate AND check_in_time IS NOT NULL AND check_out_time IS NULL",
+                        nativeQuery = true)
+        int flagOpenCheckIns(@Param("workDate") LocalDate workDate);
+
+        // 휴가 신청 기간 검사: 해당 기간에 이미 출근한 기록이 있는지
+        @Query("SELECT COUNT(a) > 0 FROM Attendance a WHERE a.employee.employeeId = :employeeId "
+                        + "AND a.workDate BETWEEN :startDate AND :endDate AND a.checkInTime IS NOT NULL")
+        boolean existsCheckInBetween(@Param("employeeId") Long employeeId,
+                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+        // 부서 캘린더: 부서원의 기간 내 지정 상태 근태
+        @Query("SELECT new com.teamproject.workhub.dto.calendarDto.CalendarStatusDay("
+                        + "e.employeeId, e.name, a.workDate, a.status) "
+                        + "FROM Attendance a JOIN a.employee e "
+                        + "WHERE e.department.departNo = :departNo AND a.workDate BETWEEN :startDate AND :endDate "
+                        + "AND a.status IN :statuses")
+        List<CalendarStatusDay> findDepartmentStatusDays(@Param("departNo") Long departNo,
+                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                        @Param("statuses") Collection<AttendanceStatus> statuses);
 }
@@ -0,0 +1,13 @@
+package com.teamproject.workhub.repository.leaveRepository;
+
+import com.teamproject.workhub.entity.leaveEntity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+    List<Holiday> findByHolidayDateBetweenOrderByHolidayDate(LocalDate startDate, LocalDate endDate);
+
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
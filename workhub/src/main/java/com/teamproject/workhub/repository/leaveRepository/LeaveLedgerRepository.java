@@ -0,0 +1,38 @@
+package com.teamproject.workhub.repository.leaveRepository;
+
+import com.teamproject.workhub.entity.leaveEntity.LeaveLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LeaveLedgerRepository extends JpaRepository<LeaveLedgerEntry, Long> {
+    List<LeaveLedgerEntry> findByEmployeeIdOrderByCreatedAtDescIdDesc(Long employeeId);
+
+    List<LeaveLedgerEntry> findByRequestIdOrderByIdDesc(Long requestId);
+
+    // 연간 부여: 재직 중이고 해당 연도 부여 이력이 없는 사원의 잔여 일수 초기화
+    // 사용 일수는 0 이 아니라 원장의 해당 연도 DEBIT - CREDIT (전년도에 미리 승인된 새해 휴가 유지)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE employee e SET e.total_leave = :days, e.used_leave = "
+            + "  COALESCE((SELECT SUM(CASE l.entry_type WHEN 'DEBIT' THEN l.days WHEN 'CREDIT' THEN -l.days ELSE 0 END) "
+            + "            FROM leave_ledger l WHERE l.employee_id = e.employeeId AND l.leave_year = :year), 0) "
+            + "WHERE (e.resignation_date IS NULL OR e.resignation_date > :yearStart) "
+            + "  AND NOT EXISTS (SELECT 1 FROM leave_ledger l WHERE l.employee_id = e.employeeId "
+            + "                  AND l.entry_type = 'ACCRUAL' AND l.leave_year = :year)", nativeQuery = true)
+    int resetBalancesForYear(@Param("year") int year, @Param("yearStart") LocalDate yearStart,
+            @Param("days") double days);
+
+    // 연간 부여: 위와 같은 대상에 ACCRUAL 원장 행 일괄 INSERT (반드시 resetBalancesForYear 다음에 실행)
+    @Modifying
+    @Query(value = "INSERT INTO leave_ledger (employee_id, entry_type, days, leave_year, memo, created_at) "
+            + "SELECT e.employeeId, 'ACCRUAL', :days, :year, :memo, NOW() FROM employee e "
+            + "WHERE (e.resignation_date IS NULL OR e.resignation_date > :yearStart) "
+            + "  AND NOT EXISTS (SELECT 1 FROM leave_ledger l WHERE l.employee_id = e.employeeId "
+            + "                  AND l.entry_type = 'ACCRUAL' AND l.leave_year = :year)", nativeQuery = true)
+    int insertAccrualEntries(@Param("year") int year, @Param("yearStart") LocalDate yearStart,
+            @Param("days") double days, @Param("memo") String memo);
+}
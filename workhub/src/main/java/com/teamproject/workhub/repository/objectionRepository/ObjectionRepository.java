@@ -1,20 +1,65 @@
 package com.teamproject.workhub.repository.objectionRepository;
 
+import com.teamproject.workhub.dto.adminDto.AdminObjectionRow;
 import com.teamproject.workhub.entity.objectionRequest.ObjectionRequest;
 import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
 import com.teamproject.workhub.entity.userEntity.User;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ObjectionRepository extends JpaRepository<ObjectionRequest, Long> {
     List<ObjectionRequest> findByUser(User user);
 
+    List<ObjectionRequest> findByUserId(Long userId);
+
     List<ObjectionRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<ObjectionRequest> findByUserIdAndStatus(Long userId, ObjectionStatus status);
 
     long countByStatus(ObjectionStatus status);
+
+    // 관리자 목록: 신청자/사원 정보를 한 번에 조인 (행마다 사원 조회 없음) + 키셋 커서
+    @Query("SELECT new com.teamproject.workhub.dto.adminDto.AdminObjectionRow("
+            + "o.id, u.employeeNo, e.name, o.attendanceDate, o.category, o.reason, o.status, o.createdAt, o.version) "
+            + "FROM ObjectionRequest o JOIN o.user u LEFT JOIN Employee e ON e.user = u "
+            + "WHERE (:status IS NULL OR o.status = :status) "
+            + "AND (:cursorAt IS NULL OR o.createdAt < :cursorAt "
+            + "     OR (o.createdAt = :cursorAt AND o.id < :cursorId)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<AdminObjectionRow> findAdminRows(@Param("status") ObjectionStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Limit limit);
+
+    // 관리자 승인함: (status, created_at) 인덱스 범위 스캔 + 키셋 커서
+    @Query("SELECT new com.teamproject.workhub.dto.adminDto.AdminObjectionRow("
+            + "o.id, u.employeeNo, e.name, o.attendanceDate, o.category, o.reason, o.status, o.createdAt, o.version) "
+            + "FROM ObjectionRequest o JOIN o.user u LEFT JOIN Employee e ON e.user = u "
+            + "WHERE o.status = :status "
+            + "AND (:cursorAt IS NULL OR o.createdAt < :cursorAt "
+            + "     OR (o.createdAt = :cursorAt AND o.id < :cursorId)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<AdminObjectionRow> findInboxRows(@Param("status") ObjectionStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Limit limit);
+
+    // 일괄 처리 대상 행 잠금 조회 (1회)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ObjectionRequest o WHERE o.id IN :ids")
+    List<ObjectionRequest> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 변경 (대기 건만, 버전 증가)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ObjectionRequest o SET o.status = :to, o.version = o.version + 1 "
+            + "WHERE o.id IN :ids AND o.status = :from")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("from") ObjectionStatus from,
+            @Param("to") ObjectionStatus to);
 }
@@ -1,13 +1,78 @@
 package com.teamproject.workhub.repository.request;
 
+import com.teamproject.workhub.dto.adminDto.AdminWorkRequestRow;
+import com.teamproject.workhub.dto.request.TeamAbsenceDto;
 import com.teamproject.workhub.entity.request.Request;
+import com.teamproject.workhub.entity.request.RequestStatus;
 import com.teamproject.workhub.entity.userEntity.User;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findByUserOrderByCreatedAtDesc(User user);
+
+    List<Request> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 관리자 목록: 신청자/사원 정보를 한 번에 조인 (행마다 사원 조회 없음) + 키셋 커서
+    @Query("SELECT new com.teamproject.workhub.dto.adminDto.AdminWorkRequestRow("
+            + "r.id, u.employeeNo, e.name, r.type, r.startDate, r.endDate, r.reason, r.status, r.createdAt, r.version) "
+            + "FROM Request r JOIN r.user u LEFT JOIN Employee e ON e.user = u "
+            + "WHERE (:status IS NULL OR r.status = :status) "
+            + "AND (:cursorAt IS NULL OR r.createdAt < :cursorAt "
+            + "     OR (r.createdAt = :cursorAt AND r.id < :cursorId)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<AdminWorkRequestRow> findAdminRows(@Param("status") RequestStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Limit limit);
+
+    // 관리자 승인함: (status, created_at) 인덱스 범위 스캔 + 키셋 커서
+    @Query("SELECT new com.teamproject.workhub.dto.adminDto.AdminWorkRequestRow("
+            + "r.id, u.employeeNo, e.name, r.type, r.startDate, r.endDate, r.reason, r.status, r.createdAt, r.version) "
+            + "FROM Request r JOIN r.user u LEFT JOIN Employee e ON e.user = u "
+            + "WHERE r.status = :status "
+            + "AND (:cursorAt IS NULL OR r.createdAt < :cursorAt "
+            + "     OR (r.createdAt = :cursorAt AND r.id < :cursorId)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<AdminWorkRequestRow> findInboxRows(@Param("status") RequestStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Limit limit);
+
+    // 일괄 처리 대상 행 잠금 조회 (1회)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Request r WHERE r.id IN :ids")
+    List<Request> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 변경 (대기 건만, 버전 증가)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Request r SET r.status = :to, r.version = r.version + 1 "
+            + "WHERE r.id IN :ids AND r.status = :from")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("from") RequestStatus from,
+            @Param("to") RequestStatus to);
+
+    // 기간 중복 검사: 처리 중/승인된 신청 중 [startDate, endDate] 와 겹치는 건 존재 여부
+    @Query("SELECT COUNT(r) > 0 FROM Request r WHERE r.user.id = :userId "
+            + "AND r.startDate <= :endDate AND r.endDate >= :startDate "
+            + "AND r.status IN :statuses")
+    boolean existsOverlapping(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate, @Param("statuses") Collection<RequestStatus> statuses);
+
+    // 부서원 중 [startDate, endDate] 에 승인된 휴가/재택이 있는 건
+    @Query("SELECT new com.teamproject.workhub.dto.request.TeamAbsenceDto("
+            + "e.employeeId, e.employeeNo, e.name, r.type, r.startDate, r.endDate) "
+            + "FROM Request r JOIN Employee e ON e.user = r.user "
+            + "WHERE e.department.departNo = :departNo AND r.status = :status "
+            + "AND r.startDate <= :endDate AND r.endDate >= :startDate "
+            + "ORDER BY r.startDate, e.employeeId")
+    List<TeamAbsenceDto> findDepartmentAbsences(@Param("departNo") Long departNo, @Param("status") RequestStatus status,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
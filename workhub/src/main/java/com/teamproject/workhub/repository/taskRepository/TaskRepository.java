@@ -1,10 +1,56 @@
 package com.teamproject.workhub.repository.taskRepository;
 
+import com.teamproject.workhub.dto.adminDto.AdminTaskRow;
 import com.teamproject.workhub.entity.taskEntity.Task;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     List<Task> findByEmployeeId(Long employeeId);
+
+    // 사원 정보가 없는 계정: 본인이 등록했고 담당자가 없는 업무
+    List<Task> findByUserIdAndEmployeeIdIsNull(Long userId);
+
+    // 일괄 처리 대상 행 잠금 조회 (권한 판정까지 이 1회로 처리)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 일괄 상태 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status WHERE t.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status);
+
+    // 일괄 담당자 변경 (부서별 부하 집계를 위해 담당자의 부서도 함께)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.employeeId = :employeeId, t.departNo = :departNo WHERE t.id IN :ids")
+    int bulkUpdateEmployee(@Param("ids") Collection<Long> ids, @Param("employeeId") Long employeeId,
+            @Param("departNo") Long departNo);
+
+    // 일괄 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int bulkDelete(@Param("ids") Collection<Long> ids);
+
+    // 관리자 승인함: (status, created_at) 인덱스 범위 스캔 + 키셋 커서
+    @Query("SELECT new com.teamproject.workhub.dto.adminDto.AdminTaskRow("
+            + "t.id, e.employeeNo, e.name, t.title, t.description, t.dueDate, t.status, t.createdAt) "
+            + "FROM Task t LEFT JOIN Employee e ON e.employeeId = t.employeeId "
+            + "WHERE t.status = :status "
+            + "AND (:cursorAt IS NULL OR t.createdAt < :cursorAt "
+            + "     OR (t.createdAt = :cursorAt AND t.id < :cursorId)) "
+            + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<AdminTaskRow> findInboxRows(@Param("status") TaskStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Limit limit);
 }
@@ -0,0 +1,55 @@
+package com.teamproject.workhub.repository.taskRepository;
+
+import com.teamproject.workhub.dto.taskDto.TaskSearchCondition;
+import com.teamproject.workhub.entity.taskEntity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 업무 검색 조건 → Specification (값이 있는 조건만 WHERE 에 추가)
+// 자주 쓰는 조합은 tasks 복합 인덱스로 처리: (employeeId, status), (departNo, status), (UserId, employeeId)
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> search(TaskSearchCondition condition) {
+        List<Specification<Task>> specs = new ArrayList<>();
+
+        if (condition.getEmployeeId() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("employeeId"), condition.getEmployeeId()));
+        }
+        if (condition.getDepartNo() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("departNo"), condition.getDepartNo()));
+        }
+        if (condition.getStatus() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("status"), condition.getStatus()));
+        }
+        if (condition.getPriority() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("priority"), condition.getPriority()));
+        }
+        if (condition.getDueFrom() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), condition.getDueFrom()));
+        }
+        if (condition.getDueTo() != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), condition.getDueTo()));
+        }
+        if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
+            String pattern = "%" + escapeLike(condition.getKeyword().trim()) + "%";
+            specs.add((root, query, cb) -> cb.or(
+                    cb.like(root.get("title"), pattern, '\\'),
+                    cb.like(root.get("description"), pattern, '\\')));
+        }
+        // 키셋 커서: id 내림차순으로 이전 페이지 마지막 id 보다 작은 행
+        if (condition.getCursorId() != null) {
+            specs.add((root, query, cb) -> cb.lessThan(root.get("id"), condition.getCursorId()));
+        }
+
+        return Specification.allOf(specs);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
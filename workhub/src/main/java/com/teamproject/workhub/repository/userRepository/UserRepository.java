@@ -5,6 +5,12 @@ import com.teamproject.workhub.entity.userEntity.Role;
 import com.teamproject.workhub.entity.userEntity.User;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +20,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmployeeNo(String employeeNo);
 
+    // 로그인 성공 시 마지막 로그인 시간만 갱신 (짧은 단독 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.id = :id")
+    int updateLastLogin(@Param("id") Long id, @Param("lastLogin") LocalDateTime lastLogin);
+
     // 비밀번호 초기화 설정
 
 
@@ -0,0 +1,104 @@
+package com.teamproject.workhub.service.adminService;
+
+import com.teamproject.workhub.dto.adminDto.AdminInboxPageResponse;
+import com.teamproject.workhub.dto.adminDto.AdminObjectionRow;
+import com.teamproject.workhub.dto.adminDto.AdminRequestResponse;
+import com.teamproject.workhub.dto.adminDto.AdminTaskRow;
+import com.teamproject.workhub.dto.adminDto.AdminWorkRequestRow;
+import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
+import com.teamproject.workhub.entity.request.RequestStatus;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import com.teamproject.workhub.repository.objectionRepository.ObjectionRepository;
+import com.teamproject.workhub.repository.request.RequestRepository;
+import com.teamproject.workhub.repository.taskRepository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+// 관리자 승인함: 정정 요청 / 휴가·재택 신청 / 완료 업무 중 승인 대기 건을 createdAt 내림차순으로 병합
+// 소스별로 (status, created_at) 인덱스 범위 스캔 size+1 건씩만 읽고 k-way 병합
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminInboxService {
+
+    // 같은 createdAt 안에서의 정렬 순서 (커서 비교에도 사용)
+    private static final List<String> SOURCE_ORDER = List.of("OBJECTION", "WORK_REQUEST", "TASK");
+
+    private final ObjectionRepository objectionRepository;
+    private final RequestRepository requestRepository;
+    private final TaskRepository taskRepository;
+
+    public AdminInboxPageResponse getInbox(LocalDateTime cursorAt, String cursorType, Long cursorId, int size) {
+        if (cursorAt != null && !SOURCE_ORDER.contains(cursorType)) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursorType);
+        }
+        Limit limit = Limit.of(size + 1);
+
+        List<AdminRequestResponse> objections = objectionRepository
+                .findInboxRows(ObjectionStatus.PENDING, cursorAt, idBound("OBJECTION", cursorType, cursorId), limit)
+                .stream().map(AdminObjectionRow::toResponse).collect(Collectors.toList());
+        List<AdminRequestResponse> requests = requestRepository
+                .findInboxRows(RequestStatus.PENDING, cursorAt, idBound("WORK_REQUEST", cursorType, cursorId), limit)
+                .stream().map(AdminWorkRequestRow::toResponse).collect(Collectors.toList());
+        // 업무는 완료(DONE) 상태가 승인 대기
+        List<AdminRequestResponse> tasks = taskRepository
+                .findInboxRows(TaskStatus.DONE, cursorAt, idBound("TASK", cursorType, cursorId), limit)
+                .stream().map(AdminTaskRow::toResponse).collect(Collectors.toList());
+
+        return AdminInboxPageResponse.of(merge(List.of(objections, requests, tasks), size + 1), size);
+    }
+
+    // 커서와 같은 createdAt 인 행 중 어디까지 이미 내려보냈는지를 소스별 id 상한으로 변환
+    // (앞 순서 소스는 모두 전송됨 → 0, 뒤 순서 소스는 아직 → 최대값, 같은 소스 → 커서 id 미만)
+    private Long idBound(String source, String cursorType, Long cursorId) {
+        if (cursorType == null) {
+            return null;
+        }
+        int diff = Integer.compare(SOURCE_ORDER.indexOf(source), SOURCE_ORDER.indexOf(cursorType));
+        if (diff < 0) {
+            return 0L;
+        }
+        if (diff > 0) {
+            return Long.MAX_VALUE;
+        }
+        return cursorId != null ? cursorId : Long.MAX_VALUE;
+    }
+
+    private List<AdminRequestResponse> merge(List<List<AdminRequestResponse>> sources, int max) {
+        Comparator<AdminRequestResponse> order = Comparator
+                .comparing(AdminRequestResponse::getCreatedAt, Comparator.reverseOrder())
+                .thenComparing(item -> SOURCE_ORDER.indexOf(item.getType()))
+                .thenComparing(AdminRequestResponse::getId, Comparator.reverseOrder());
+
+        PriorityQueue<Head> heap = new PriorityQueue<>((a, b) -> order.compare(a.item, b.item));
+        for (List<AdminRequestResponse> source : sources) {
+            Iterator<AdminRequestResponse> it = source.iterator();
+            if (it.hasNext()) {
+                heap.add(new Head(it.next(), it));
+            }
+        }
+
+        List<AdminRequestResponse> merged = new ArrayList<>(max);
+        while (!heap.isEmpty() && merged.size() < max) {
+            Head head = heap.poll();
+            merged.add(head.item);
+            if (head.rest.hasNext()) {
+                heap.add(new Head(head.rest.next(), head.rest));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(AdminRequestResponse item, Iterator<AdminRequestResponse> rest) {
+    }
+}
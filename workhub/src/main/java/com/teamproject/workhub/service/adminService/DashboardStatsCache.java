@@ -0,0 +1,112 @@
+package com.teamproject.workhub.service.adminService;
+
+import com.teamproject.workhub.dto.adminDto.AdminDashboardStatsResponse;
+import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
+import com.teamproject.workhub.event.AttendanceCheckedInEvent;
+import com.teamproject.workhub.event.EmployeeRegisteredEvent;
+import com.teamproject.workhub.event.ObjectionStatusChangedEvent;
+import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
+import com.teamproject.workhub.repository.objectionRepository.ObjectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 관리자 대시보드 카운터 (이벤트로 증감, 주기적으로 DB와 맞춤 → 조회는 메모리 읽기)
+@Component
+@RequiredArgsConstructor
+public class DashboardStatsCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectionRepository objectionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong totalEmployees = new AtomicLong();
+    private final AtomicLong pendingCorrections = new AtomicLong();
+
+    // 오늘 출근한 사원 ID (중복 이벤트가 와도 한 번만 집계)
+    private volatile LocalDate today = LocalDate.now();
+    private volatile Set<Long> checkedInToday = ConcurrentHashMap.newKeySet();
+
+    private volatile LocalDateTime reconciledAt;
+
+    public AdminDashboardStatsResponse getStats() {
+        long employees = totalEmployees.get();
+        long todayAttendance = currentCheckedIn().size();
+        double attendanceRate = employees > 0 ? (double) todayAttendance / employees * 100 : 0;
+
+        return AdminDashboardStatsResponse.builder()
+                .totalEmployees(employees)
+                .todayAttendanceCount(todayAttendance)
+                .pendingCorrectionsCount(Math.max(pendingCorrections.get(), 0))
+                .attendanceRate(Math.round(attendanceRate * 10) / 10.0)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckedIn(AttendanceCheckedInEvent event) {
+        if (event.workDate().equals(LocalDate.now())) {
+            currentCheckedIn().add(event.employeeId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeRegistered(EmployeeRegisteredEvent event) {
+        totalEmployees.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onObjectionStatusChanged(ObjectionStatusChangedEvent event) {
+        if (event.from() == ObjectionStatus.PENDING && event.to() != ObjectionStatus.PENDING) {
+            pendingCorrections.decrementAndGet();
+        } else if (event.from() != ObjectionStatus.PENDING && event.to() == ObjectionStatus.PENDING) {
+            pendingCorrections.incrementAndGet();
+        }
+    }
+
+    // 최대 지연 = 보정 주기 (이벤트를 거치지 않은 변경도 이 시점에 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${workhub.admin.stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${workhub.admin.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        LocalDate date = LocalDate.now();
+        List<Long> employeeIds = jdbcTemplate.queryForList(
+                "SELECT employee_id FROM attendance WHERE work_date = ?", Long.class, Date.valueOf(date));
+        Set<Long> checkedIn = ConcurrentHashMap.newKeySet();
+        checkedIn.addAll(employeeIds);
+
+        totalEmployees.set(employeeRepository.count());
+        pendingCorrections.set(objectionRepository.countByStatus(ObjectionStatus.PENDING));
+        synchronized (this) {
+            today = date;
+            checkedInToday = checkedIn;
+        }
+        reconciledAt = LocalDateTime.now();
+    }
+
+    // 날짜가 바뀌면 오늘 출근 집합 초기화
+    private Set<Long> currentCheckedIn() {
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            synchronized (this) {
+                if (!now.equals(today)) {
+                    checkedInToday = ConcurrentHashMap.newKeySet();
+                    today = now;
+                }
+            }
+        }
+        return checkedInToday;
+    }
+}
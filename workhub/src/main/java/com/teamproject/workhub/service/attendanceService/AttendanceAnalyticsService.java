@@ -0,0 +1,82 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.DepartmentAttendanceAnalyticsDto;
+import com.teamproject.workhub.dto.attendanceDto.DepartmentAttendanceStatRow;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부서별 근태 통계 (집계는 DB GROUP BY, 여기서는 부서 > 일자 구조로만 묶음)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttendanceAnalyticsService {
+
+    private final AttendanceRepository attendanceRepository;
+
+    public List<DepartmentAttendanceAnalyticsDto> getDepartmentAnalytics(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+
+        // 행 수 = 부서 수 x 일수 x 상태 수 (사원 수와 무관)
+        List<DepartmentAttendanceStatRow> rows = attendanceRepository.aggregateByDepartmentAndDay(startDate, endDate);
+
+        Map<Long, DepartmentAttendanceAnalyticsDto> departments = new LinkedHashMap<>();
+        Map<Long, Map<LocalDate, DayAccumulator>> daysByDepartment = new LinkedHashMap<>();
+
+        for (DepartmentAttendanceStatRow row : rows) {
+            Long departNo = row.getDepartNo() != null ? row.getDepartNo() : 0L; // 부서 미정은 0
+            departments.computeIfAbsent(departNo, no -> DepartmentAttendanceAnalyticsDto.builder()
+                    .departNo(row.getDepartNo())
+                    .departName(row.getDepartName() != null ? row.getDepartName() : "부서 미정")
+                    .build());
+            daysByDepartment.computeIfAbsent(departNo, no -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getWorkDate(), date -> new DayAccumulator())
+                    .add(row);
+        }
+
+        List<DepartmentAttendanceAnalyticsDto> result = new ArrayList<>();
+        departments.forEach((departNo, department) -> {
+            List<DepartmentAttendanceAnalyticsDto.DayStat> days = new ArrayList<>();
+            daysByDepartment.get(departNo).forEach((workDate, acc) -> days.add(acc.toDayStat(workDate)));
+            result.add(DepartmentAttendanceAnalyticsDto.builder()
+                    .departNo(department.getDepartNo())
+                    .departName(department.getDepartName())
+                    .days(days)
+                    .build());
+        });
+        return result;
+    }
+
+    private static class DayAccumulator {
+        private final Map<String, Long> statusCounts = new LinkedHashMap<>();
+        private long total;
+        private long workedMinutes;
+        private long completedCount;
+
+        void add(DepartmentAttendanceStatRow row) {
+            statusCounts.merge(row.getStatus(), row.getCnt(), Long::sum);
+            total += row.getCnt();
+            workedMinutes += row.getWorkedMinutes() != null ? row.getWorkedMinutes() : 0L;
+            completedCount += row.getCompletedCount() != null ? row.getCompletedCount() : 0L;
+        }
+
+        DepartmentAttendanceAnalyticsDto.DayStat toDayStat(LocalDate workDate) {
+            double avgHours = completedCount > 0 ? workedMinutes / 60.0 / completedCount : 0.0;
+            return DepartmentAttendanceAnalyticsDto.DayStat.builder()
+                    .workDate(workDate)
+                    .statusCounts(statusCounts)
+                    .total(total)
+                    .avgWorkHours(Math.round(avgHours * 100) / 100.0)
+                    .build();
+        }
+    }
+}
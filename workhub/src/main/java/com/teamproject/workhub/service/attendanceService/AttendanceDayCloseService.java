@@ -0,0 +1,58 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.DayCloseResultDto;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
+import com.teamproject.workhub.repository.leaveRepository.HolidayRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// 일 마감: 결근 행 생성 + 퇴근 미기록 표시 (사원 수와 무관하게 SQL 몇 번으로 처리)
+@Service
+@RequiredArgsConstructor
+public class AttendanceDayCloseService {
+
+    private static final String ABSENT_NOTE = "일 마감 자동 결근 처리";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final HolidayRepository holidayRepository;
+
+    // 매일 새벽 전날 마감 (자기 호출은 프록시를 거치지 않으므로 여기서 트랜잭션 시작)
+    @Scheduled(cron = "${workhub.attendance.day-close-cron:0 10 0 * * *}")
+    @Transactional
+    public void closeYesterday() {
+        closeDay(LocalDate.now().minusDays(1));
+    }
+
+    @Transactional
+    public DayCloseResultDto closeDay(LocalDate workDate) {
+        if (!workDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("지난 날짜만 마감할 수 있습니다.");
+        }
+        DayOfWeek dayOfWeek = workDate.getDayOfWeek();
+        // 주말/공휴일은 결근 처리하지 않음
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY
+                || holidayRepository.existsByHolidayDate(workDate)) {
+            return DayCloseResultDto.builder().workDate(workDate).skipped(true).build();
+        }
+
+        int absentInserted = attendanceRepository.insertAbsentRows(workDate, ABSENT_NOTE);
+        int openCheckInsFlagged = attendanceRepository.flagOpenCheckIns(workDate);
+
+        // 해당 월 집계 재계산 (INSERT ... SELECT 1회)
+        YearMonth month = YearMonth.from(workDate);
+        attendanceSummaryService.rebuild(month, month);
+
+        return DayCloseResultDto.builder()
+                .workDate(workDate)
+                .absentInserted(absentInserted)
+                .openCheckInsFlagged(openCheckInsFlagged)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.entity.attendanceEntity.Attendance;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 유니크 키 (employee_id, work_date) 추가 전 중복 근태 행 병합
+// ddl-auto(update) 의 ALTER 는 중복 행이 있으면 실패하고 로그만 남기므로 EntityManagerFactory 보다 먼저 실행 (AttendanceSchemaConfig)
+// JPA 가 아직 없으므로 DataSource 로 직접 처리, 유니크 키가 이미 있으면 아무것도 하지 않음
+@Component
+public class AttendanceDuplicateMerger implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceDuplicateMerger.class);
+
+    private static final String UNIQUE_KEY = "uk_attendance_employee_work_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 병합이 일어난 달 (기동 후 월간 집계 재계산 대상)
+    private final Set<YearMonth> mergedMonths = new TreeSet<>();
+
+    public AttendanceDuplicateMerger(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists() || uniqueKeyExists()) {
+            return;
+        }
+
+        List<DuplicateKey> duplicates = jdbcTemplate.query(
+                "SELECT employee_id, work_date FROM attendance "
+                        + "GROUP BY employee_id, work_date HAVING COUNT(*) > 1",
+                (rs, rowNum) -> new DuplicateKey(rs.getLong("employee_id"), rs.getDate("work_date").toLocalDate()));
+        if (duplicates.isEmpty()) {
+            return;
+        }
+
+        int removed = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (DuplicateKey key : duplicates) {
+                count += merge(key);
+                mergedMonths.add(YearMonth.from(key.workDate()));
+            }
+            return count;
+        });
+        log.warn("중복 근태 병합: {}건 (사원/일자 {}쌍), 대상 월 {}", removed, duplicates.size(), mergedMonths);
+    }
+
+    public Set<YearMonth> getMergedMonths() {
+        return mergedMonths;
+    }
+
+    // 퇴근까지 기록된 행(없으면 가장 먼저 생긴 행)을 남기고 가장 이른 출근/가장 늦은 퇴근 시각을 모아 저장
+    private int merge(DuplicateKey key) {
+        List<Row> rows = jdbcTemplate.query(
+                "SELECT id, check_in_time, check_out_time, status, notes FROM attendance "
+                        + "WHERE employee_id = ? AND work_date = ? ORDER BY check_out_time IS NULL, id",
+                (rs, rowNum) -> {
+                    Time in = rs.getTime("check_in_time");
+                    Time out = rs.getTime("check_out_time");
+                    return new Row(rs.getLong("id"), in != null ? in.toLocalTime() : null,
+                            out != null ? out.toLocalTime() : null, rs.getString("status"), rs.getString("notes"));
+                },
+                key.employeeId(), Date.valueOf(key.workDate()));
+        if (rows.size() < 2) {
+            return 0;
+        }
+
+        Row keeper = rows.get(0);
+        LocalTime checkIn = null;
+        LocalTime checkOut = null;
+        String notes = keeper.notes();
+        List<Object[]> deletes = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.checkIn() != null && (checkIn == null || row.checkIn().isBefore(checkIn))) {
+                checkIn = row.checkIn();
+            }
+            if (row.checkOut() != null && (checkOut == null || row.checkOut().isAfter(checkOut))) {
+                checkOut = row.checkOut();
+            }
+            if (notes == null) {
+                notes = row.notes();
+            }
+            if (row != keeper) {
+                deletes.add(new Object[] { row.id() });
+            }
+        }
+
+        jdbcTemplate.update("UPDATE attendance SET check_in_time = ?, check_out_time = ?, status = ?, notes = ?, "
+                        + "updated_at = ? WHERE id = ?",
+                checkIn != null ? Time.valueOf(checkIn) : null,
+                checkOut != null ? Time.valueOf(checkOut) : null,
+                mergedStatus(keeper.status(), checkIn, checkOut), notes,
+                Timestamp.valueOf(LocalDateTime.now()), keeper.id());
+        jdbcTemplate.batchUpdate("DELETE FROM attendance WHERE id = ?", deletes);
+        return deletes.size();
+    }
+
+    // 출근/퇴근으로 정해지는 상태만 다시 계산 (결근/휴가 등 나머지 상태는 유지)
+    private static String mergedStatus(String keeperStatus, LocalTime checkIn, LocalTime checkOut) {
+        boolean derived = AttendanceStatus.NORMAL.name().equals(keeperStatus)
+                || AttendanceStatus.LATE.name().equals(keeperStatus)
+                || AttendanceStatus.EARLY_LEAVE.name().equals(keeperStatus);
+        if (!derived || checkIn == null || checkOut == null) {
+            return keeperStatus;
+        }
+        Attendance merged = Attendance.builder().checkInTime(checkIn).build();
+        merged.checkOut(checkOut);
+        return merged.getStatus().name();
+    }
+
+    private boolean tableExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'attendance'", Integer.class);
+        return count != null && count > 0;
+    }
+
+    private boolean uniqueKeyExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'attendance' AND index_name = ?",
+                Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+
+    private record DuplicateKey(Long employeeId, LocalDate workDate) {
+    }
+
+    private record Row(Long id, LocalTime checkIn, LocalTime checkOut, String status, String notes) {
+    }
+}
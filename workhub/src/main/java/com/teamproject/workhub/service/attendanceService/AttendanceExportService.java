@@ -0,0 +1,151 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.AdminAttendanceRowDto;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 관리자용 근태 내보내기: 전방향 커서로 한 행씩 읽어서 바로 응답 스트림에 기록 (메모리 사용량 일정)
+@Service
+@RequiredArgsConstructor
+public class AttendanceExportService {
+
+    private static final String CSV_HEADER =
+            "id,workDate,employeeId,employeeNo,name,departName,checkInTime,checkOutTime,status,workHours,notes";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public void export(Format format, LocalDate startDate, LocalDate endDate, Long departNo, AttendanceStatus status,
+            OutputStream out) {
+
+        // employee/department 컬럼은 엔티티 이름 그대로 생성됨 (globally_quoted_identifiers: employeeId, departNo 등)
+        StringBuilder sql = new StringBuilder(
+                "SELECT a.id, a.work_date, a.check_in_time, a.check_out_time, a.status, a.notes, "
+                        + "e.employeeId AS employee_id, e.employeeNo AS employee_no, e.name, d.departName AS depart_name "
+                        + "FROM attendance a "
+                        + "JOIN employee e ON e.employeeId = a.employee_id "
+                        + "LEFT JOIN department d ON d.departNo = e.departNo "
+                        + "WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (startDate != null) {
+            sql.append(" AND a.work_date >= ?");
+            params.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            sql.append(" AND a.work_date <= ?");
+            params.add(Date.valueOf(endDate));
+        }
+        if (departNo != null) {
+            sql.append(" AND e.departNo = ?");
+            params.add(departNo);
+        }
+        if (status != null) {
+            sql.append(" AND a.status = ?");
+            params.add(status.name());
+        }
+        sql.append(" ORDER BY a.work_date, a.id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL Connector/J: Integer.MIN_VALUE → 결과를 버퍼링하지 않고 한 행씩 스트리밍
+                ps.setFetchSize(Integer.MIN_VALUE);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, rs);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(toRow(rs)));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AdminAttendanceRowDto toRow(ResultSet rs) throws SQLException {
+        return new AdminAttendanceRowDto(
+                rs.getLong("id"),
+                rs.getDate("work_date").toLocalDate(),
+                toLocalTime(rs.getTime("check_in_time")),
+                toLocalTime(rs.getTime("check_out_time")),
+                AttendanceStatus.valueOf(rs.getString("status")),
+                rs.getString("notes"),
+                rs.getLong("employee_id"),
+                rs.getString("employee_no"),
+                rs.getString("name"),
+                rs.getString("depart_name"));
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        AdminAttendanceRowDto row = toRow(rs);
+        Object[] values = { row.getId(), row.getWorkDate(), row.getEmployeeId(), row.getEmployeeNo(),
+                row.getName(), row.getDepartName(), row.getCheckInTime(), row.getCheckOutTime(),
+                row.getStatusCode(), row.getWorkHours(), row.getNotes() };
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csv(values[i]));
+        }
+        writer.write(line.toString());
+        writer.write('\n');
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private static LocalTime toLocalTime(Time time) {
+        return time != null ? time.toLocalTime() : null;
+    }
+}
@@ -1,15 +1,24 @@
 package com.teamproject.workhub.service.attendanceService;
 
+import com.teamproject.workhub.dto.attendanceDto.AdminAttendanceRowDto;
+import com.teamproject.workhub.dto.attendanceDto.AttendancePageResponse;
 import com.teamproject.workhub.dto.attendanceDto.AttendanceResponseDto;
+import com.teamproject.workhub.dto.attendanceDto.AttendanceSummaryDto;
 import com.teamproject.workhub.entity.attendanceEntity.Attendance;
 import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
-import com.teamproject.workhub.entity.userEntity.User;
+import com.teamproject.workhub.event.AttendanceCheckedInEvent;
+import com.teamproject.workhub.event.AttendanceCheckedOutEvent;
 import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalTime;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -23,13 +32,17 @@ public class AttendanceService {
 
         private final AttendanceRepository attendanceRepository;
         private final EmployeeRepository employeeRepository;
+        private final CheckInBuffer checkInBuffer;
+        private final AttendanceSummaryService attendanceSummaryService;
+        private final ApplicationEventPublisher eventPublisher;
+        private final PlatformTransactionManager transactionManager;
 
-        // 내 전체 근태 이력 조회
-        public List<AttendanceResponseDto> getMyAttendance(User loginUser) {
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+        private static final int MAX_PAGE_SIZE = 500;
 
-                List<Attendance> attendances = attendanceRepository.findByEmployeeOrderByWorkDateDesc(employee);
+        // 내 전체 근태 이력 조회
+        public List<AttendanceResponseDto> getMyAttendance(Long employeeId) {
+                List<Attendance> attendances = attendanceRepository
+                                .findByEmployeeIdOrderByWorkDateDesc(requireEmployeeId(employeeId));
 
                 return attendances.stream()
                                 .map(attendance -> AttendanceResponseDto.from(attendance))
@@ -38,13 +51,11 @@ public class AttendanceService {
 
         // 특정 기간 근태 조회
         public List<AttendanceResponseDto> getMyAttendanceByPeriod(
-                        User loginUser, LocalDate startDate, LocalDate endDate) {
-
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+                        Long employeeId, LocalDate startDate, LocalDate endDate) {
 
                 List<Attendance> attendances = attendanceRepository
-                                .findByEmployeeAndWorkDateBetweenOrderByWorkDateDesc(employee, startDate, endDate);
+                                .findByEmployeeIdAndWorkDateBetweenOrderByWorkDateDesc(
+                                                requireEmployeeId(employeeId), startDate, endDate);
 
                 return attendances.stream()
                                 .map(attendance -> AttendanceResponseDto.from(attendance))
@@ -52,17 +63,15 @@ public class AttendanceService {
         }
 
         // 특정 월 근태 조회
-        public List<AttendanceResponseDto> getMyAttendanceByMonth(User loginUser, int year, int month) {
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
-
+        public List<AttendanceResponseDto> getMyAttendanceByMonth(Long employeeId, int year, int month) {
                 // 해당 월의 첫날과 마지막날
                 YearMonth yearMonth = YearMonth.of(year, month);
                 LocalDate startOfMonth = yearMonth.atDay(1);
                 LocalDate endOfMonth = yearMonth.atEndOfMonth();
 
                 List<Attendance> attendances = attendanceRepository
-                                .findByEmployeeAndWorkDateBetween(employee, startOfMonth, endOfMonth);
+                                .findByEmployeeIdAndWorkDateBetween(requireEmployeeId(employeeId), startOfMonth,
+                                                endOfMonth);
 
                 return attendances.stream()
                                 .map(attendance -> AttendanceResponseDto.from(attendance))
@@ -71,68 +80,69 @@ public class AttendanceService {
 
         // 특정 상태 근태 조회
         public List<AttendanceResponseDto> getMyAttendanceByStatus(
-                        User loginUser, AttendanceStatus status) {
-
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+                        Long employeeId, AttendanceStatus status) {
 
                 List<Attendance> attendances = attendanceRepository
-                                .findByEmployeeAndStatusOrderByWorkDateDesc(employee, status);
+                                .findByEmployeeIdAndStatusOrderByWorkDateDesc(requireEmployeeId(employeeId), status);
 
                 return attendances.stream()
                                 .map(attendance -> AttendanceResponseDto.from(attendance))
                                 .collect(Collectors.toList());
         }
 
-        // 출근 기록
-        @Transactional
-        public AttendanceResponseDto checkIn(User loginUser, String notes) {
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+        // 출근 기록 (같은 날 재요청 시 기존 기록을 그대로 반환)
+        // 버스트 모드의 메모리 응답은 커넥션이 필요 없으므로 트랜잭션 밖에서 처리하고 INSERT 경로만 트랜잭션으로 실행
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public AttendanceResponseDto checkIn(Long employeeId, String notes) {
+                requireEmployeeId(employeeId);
+
+                // 버스트 모드: 메모리에서 중복 확인 후 즉시 응답, 저장은 배치로
+                if (checkInBuffer.isEnabled()) {
+                        AttendanceResponseDto buffered = checkInBuffer.checkIn(employeeId, notes);
+                        if (buffered != null) {
+                                eventPublisher.publishEvent(new AttendanceCheckedInEvent(
+                                                employeeId, buffered.getWorkDate(), buffered.getCheckInTime()));
+                                return buffered;
+                        }
+                        // 이미 저장된 출근 기록 → 아래에서 기존 행 반환
+                }
+
+                return new TransactionTemplate(transactionManager).execute(status -> insertCheckIn(employeeId, notes));
+        }
 
+        private AttendanceResponseDto insertCheckIn(Long employeeId, String notes) {
                 LocalDate today = LocalDate.now();
                 LocalTime now = LocalTime.now();
 
-                // 오늘 이미 출근 기록이 있는지 확인
-                List<Attendance> existingAttendances = attendanceRepository
-                                .findByEmployeeAndWorkDate(employee, today);
-
-                if (!existingAttendances.isEmpty()) {
-                        throw new IllegalArgumentException("오늘은 이미 출근 기록이 있습니다.");
-                }
-
-                // 새 근태 기록 생성
-                Attendance attendance = Attendance.builder()
-                                .employee(employee)
-                                .workDate(today)
-                                .checkInTime(now)
-                                .status(AttendanceStatus.NORMAL)
-                                .notes(notes)
-                                .build();
+                // 사전 조회 없이 INSERT (employee_id + work_date 유니크 키로 중복 방지)
+                attendanceRepository.insertCheckInIfAbsent(
+                                employeeId, today, now, AttendanceStatus.NORMAL.name(), notes);
+                attendanceSummaryService.refresh(employeeId, today);
 
-                Attendance saved = attendanceRepository.save(attendance);
+                Attendance attendance = attendanceRepository.findByEmployeeIdAndWorkDate(employeeId, today)
+                                .orElseThrow(() -> new IllegalStateException("출근 기록 저장에 실패했습니다."));
+                eventPublisher.publishEvent(
+                                new AttendanceCheckedInEvent(employeeId, today, attendance.getCheckInTime()));
 
-                return AttendanceResponseDto.from(saved);
+                return AttendanceResponseDto.from(attendance);
         }
 
         // 퇴근 기록
         @Transactional
-        public AttendanceResponseDto checkOut(User loginUser) {
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
-
+        public AttendanceResponseDto checkOut(Long employeeId) {
                 LocalDate today = LocalDate.now();
                 LocalTime now = LocalTime.now();
 
-                // 오늘 출근 기록 찾기
-                List<Attendance> todayAttendances = attendanceRepository
-                                .findByEmployeeAndWorkDate(employee, today);
-
-                if (todayAttendances.isEmpty()) {
-                        throw new IllegalArgumentException("오늘 출근 기록이 없습니다. 먼저 출근해주세요.");
+                // 아직 저장 전인 출근 기록이 있으면 이 트랜잭션에서 바로 INSERT (배치 flush 와 겹쳐도 유니크 키로 1건)
+                CheckInBuffer.PendingCheckIn buffered = checkInBuffer.takePending(requireEmployeeId(employeeId));
+                if (buffered != null) {
+                        attendanceRepository.insertCheckInIfAbsent(employeeId, buffered.workDate(),
+                                        buffered.checkInTime(), AttendanceStatus.NORMAL.name(), buffered.notes());
                 }
 
-                Attendance attendance = todayAttendances.get(0);
+                // 오늘 출근 기록 찾기
+                Attendance attendance = attendanceRepository.findByEmployeeIdAndWorkDate(employeeId, today)
+                                .orElseThrow(() -> new IllegalArgumentException("오늘 출근 기록이 없습니다. 먼저 출근해주세요."));
 
                 // 이미 퇴근했는지 확인
                 if (attendance.getCheckOutTime() != null) {
@@ -141,35 +151,57 @@ public class AttendanceService {
 
                 // 퇴근 기록 및 근태 상태 자동 계산
                 attendance.checkOut(now);
+                attendanceSummaryService.refresh(employeeId, today);
+                eventPublisher.publishEvent(new AttendanceCheckedOutEvent(employeeId, today,
+                                attendance.getStatus(), attendance.getCheckInTime(), attendance.getCheckOutTime()));
 
                 return AttendanceResponseDto.from(attendance);
         }
 
         // 오늘 근태 조회
-        public AttendanceResponseDto getTodayAttendance(User loginUser) {
-                Employee employee = employeeRepository.findByUserId(loginUser.getId())
-                                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
-
+        public AttendanceResponseDto getTodayAttendance(Long employeeId) {
                 LocalDate today = LocalDate.now();
 
-                List<Attendance> todayAttendances = attendanceRepository
-                                .findByEmployeeAndWorkDate(employee, today);
-
-                if (todayAttendances.isEmpty()) {
-                        return null; // 오늘 기록 없음
-                }
+                return attendanceRepository.findByEmployeeIdAndWorkDate(requireEmployeeId(employeeId), today)
+                                .map(AttendanceResponseDto::from)
+                                // 저장 대기 중이 아니면 null (오늘 기록 없음)
+                                .orElseGet(() -> checkInBuffer.getPending(employeeId));
+        }
 
-                return AttendanceResponseDto.from(todayAttendances.get(0));
+        // 내 월간 근태 집계
+        public AttendanceSummaryDto getMyMonthlySummary(Long employeeId, int year, int month) {
+                return attendanceSummaryService.getMonthlySummary(requireEmployeeId(employeeId), year, month);
         }
 
-        // 관리자용: 전체 사원 근태 이력 조회
-        @Transactional(readOnly = true)
-        public List<AttendanceResponseDto> getAllAttendance() {
-                List<Attendance> attendances = attendanceRepository.findAll();
+        // 내 연간 근태 집계
+        public AttendanceSummaryDto getMyYearlySummary(Long employeeId, int year) {
+                return attendanceSummaryService.getYearlySummary(requireEmployeeId(employeeId), year);
+        }
 
-                return attendances.stream()
-                                .map(AttendanceResponseDto::from)
-                                .collect(Collectors.toList());
+        // 관리자용: 전체 사원 근태 이력 페이지 조회 (workDate, id 키셋 페이징, 사원명/부서명 포함)
+        public AttendancePageResponse<AdminAttendanceRowDto> getAttendancePage(
+                        LocalDate startDate, LocalDate endDate, Long departNo, AttendanceStatus status,
+                        LocalDate cursorDate, Long cursorId, int size) {
+
+                int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+                // 커서 ID 없이 날짜만 넘어오면 해당 날짜 전체를 다음 페이지 대상으로 봄
+                Long effectiveCursorId = cursorDate != null && cursorId == null ? Long.MAX_VALUE : cursorId;
+
+                // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+                List<AdminAttendanceRowDto> rows = attendanceRepository.findPageForAdmin(
+                                startDate, endDate, departNo, status, cursorDate, effectiveCursorId,
+                                Limit.of(pageSize + 1));
+
+                boolean hasNext = rows.size() > pageSize;
+                List<AdminAttendanceRowDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+                AdminAttendanceRowDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+                return AttendancePageResponse.<AdminAttendanceRowDto>builder()
+                                .items(page)
+                                .hasNext(hasNext)
+                                .nextCursorDate(hasNext ? last.getWorkDate() : null)
+                                .nextCursorId(hasNext ? last.getId() : null)
+                                .build();
         }
 
         // 관리자용: 특정 사원 근태 이력 조회
@@ -183,4 +215,12 @@ public class AttendanceService {
                                 .map(AttendanceResponseDto::from)
                                 .collect(Collectors.toList());
         }
-}
\ No newline at end of file
+
+        // 세션에 사원 ID가 없는 계정 (사원 정보 미등록)
+        private Long requireEmployeeId(Long employeeId) {
+                if (employeeId == null) {
+                        throw new RuntimeException("사원 정보를 찾을 수 없습니다.");
+                }
+                return employeeId;
+        }
+}
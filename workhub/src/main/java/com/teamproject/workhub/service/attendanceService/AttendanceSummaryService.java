@@ -0,0 +1,85 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.AttendanceSummaryDto;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+// 월간 근태 집계 (attendance_monthly_summary) 갱신/조회
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttendanceSummaryService {
+
+    private final AttendanceMonthlySummaryRepository summaryRepository;
+    private final AttendanceDuplicateMerger attendanceDuplicateMerger;
+
+    // 출근/퇴근/정정 승인 시 해당 사원의 그 달 집계만 갱신
+    @Transactional
+    public void refresh(Long employeeId, LocalDate workDate) {
+        refresh(List.of(employeeId), workDate);
+    }
+
+    @Transactional
+    public void refresh(Collection<Long> employeeIds, LocalDate workDate) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        YearMonth yearMonth = YearMonth.from(workDate);
+        // 그 달 근태가 모두 지워진 사원은 재계산 결과가 없으므로 기존 집계를 먼저 삭제
+        summaryRepository.deleteForEmployees(employeeIds, yearMonth.getYear(), yearMonth.getMonthValue());
+        summaryRepository.refreshForEmployees(employeeIds, yearMonth.getYear(), yearMonth.getMonthValue(),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    // 백필: from ~ to 월 전체 사원 집계 재계산 (월 단위 INSERT ... SELECT 1회)
+    @Transactional
+    public int rebuild(YearMonth from, YearMonth to) {
+        int months = 0;
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            summaryRepository.deleteMonth(ym.getYear(), ym.getMonthValue());
+            summaryRepository.rebuildMonth(ym.getYear(), ym.getMonthValue(), ym.atDay(1), ym.atEndOfMonth());
+            months++;
+        }
+        return months;
+    }
+
+    // 기동 시 중복 근태를 병합한 달은 집계를 다시 계산 (중복 행이 함께 집계되어 있었음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildMergedMonths() {
+        for (YearMonth month : attendanceDuplicateMerger.getMergedMonths()) {
+            rebuild(month, month);
+        }
+    }
+
+    // 매일 새벽 전날이 속한 달을 재계산 (직접 수정된 데이터 보정)
+    @Scheduled(cron = "${workhub.attendance.summary.rebuild-cron:0 30 0 * * *}")
+    @Transactional
+    public void rebuildYesterdayMonth() {
+        YearMonth month = YearMonth.from(LocalDate.now().minusDays(1));
+        rebuild(month, month);
+    }
+
+    // 월간 집계 (1행 조회)
+    public AttendanceSummaryDto getMonthlySummary(Long employeeId, int year, int month) {
+        return summaryRepository.findByEmployeeIdAndSummaryYearAndSummaryMonth(employeeId, year, month)
+                .map(AttendanceSummaryDto::from)
+                .orElseGet(() -> AttendanceSummaryDto.empty(year, month));
+    }
+
+    // 연간 집계 (최대 12행 합산)
+    public AttendanceSummaryDto getYearlySummary(Long employeeId, int year) {
+        return AttendanceSummaryDto.ofYear(year,
+                summaryRepository.findByEmployeeIdAndSummaryYearOrderBySummaryMonth(employeeId, year));
+    }
+}
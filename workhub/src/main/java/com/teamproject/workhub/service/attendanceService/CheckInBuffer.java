@@ -0,0 +1,194 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.AttendanceResponseDto;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 출근 버스트 모드: 출근 요청을 메모리에서 검증/응답하고 attendance 테이블에는 JDBC 배치로 모아서 저장
+@Component
+@RequiredArgsConstructor
+public class CheckInBuffer {
+
+    // 같은 날짜에 이미 행이 있으면 무시 (employee_id + work_date 유니크 키)
+    private static final String INSERT_SQL = "INSERT INTO attendance "
+            + "(employee_id, work_date, check_in_time, status, notes, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final AttendanceSummaryService attendanceSummaryService;
+
+    @Value("${workhub.attendance.burst-mode.enabled:false}")
+    private boolean enabled;
+
+    @Value("${workhub.attendance.burst-mode.batch-size:500}")
+    private int batchSize;
+
+    // 오늘 출근한 사원 ID (DB 반영 여부와 무관)
+    private final Set<Long> checkedInToday = ConcurrentHashMap.newKeySet();
+
+    // 아직 DB에 반영되지 않은 출근 기록
+    private final Map<Long, PendingCheckIn> pending = new ConcurrentHashMap<>();
+
+    private volatile LocalDate bufferDate = LocalDate.now();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 재시작 시 오늘 출근 기록을 테이블에서 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        List<Long> employeeIds = jdbcTemplate.queryForList(
+                "SELECT employee_id FROM attendance WHERE work_date = ?", Long.class, Date.valueOf(today));
+        synchronized (this) {
+            bufferDate = today;
+            checkedInToday.clear();
+            checkedInToday.addAll(employeeIds);
+        }
+    }
+
+    // 출근 접수 (DB 조회 없이 즉시 응답)
+    // 이미 출근했고 저장까지 끝난 경우 null → 호출 측에서 기존 행 조회
+    public AttendanceResponseDto checkIn(Long employeeId, String notes) {
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+        rollOverIfNeeded(today);
+
+        if (!checkedInToday.add(employeeId)) {
+            return getPending(employeeId);
+        }
+
+        PendingCheckIn checkIn = new PendingCheckIn(employeeId, today, now, notes, LocalDateTime.now());
+        pending.put(employeeId, checkIn);
+        return checkIn.toResponse();
+    }
+
+    // 퇴근 처리용: 저장 전 출근 기록을 대기열에서 꺼냄 (호출 측 트랜잭션에서 직접 INSERT)
+    // flush 를 부르면 REQUIRES_NEW 로 커넥션을 하나 더 잡으므로 사용하지 않음
+    // 호출 측 트랜잭션이 커밋되지 않으면 대기열에 되돌려 다음 flush 에서 저장
+    PendingCheckIn takePending(Long employeeId) {
+        PendingCheckIn checkIn = pending.remove(employeeId);
+        if (checkIn != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pending.putIfAbsent(employeeId, checkIn);
+                    }
+                }
+            });
+        }
+        return checkIn;
+    }
+
+    // 아직 저장 전인 오늘 출근 기록 (없으면 null)
+    public AttendanceResponseDto getPending(Long employeeId) {
+        PendingCheckIn checkIn = pending.get(employeeId);
+        return checkIn != null ? checkIn.toResponse() : null;
+    }
+
+    @Scheduled(fixedDelayString = "${workhub.attendance.burst-mode.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    // 대기 중인 출근 기록을 배치 INSERT (호출 측 트랜잭션과 분리해서 커밋)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingCheckIn> snapshot = new ArrayList<>(pending.values());
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<PendingCheckIn> chunk = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (PendingCheckIn c : chunk) {
+                args.add(new Object[] {
+                        c.employeeId(), Date.valueOf(c.workDate()), Time.valueOf(c.checkInTime()),
+                        AttendanceStatus.NORMAL.name(), c.notes(), Timestamp.valueOf(c.createdAt()) });
+            }
+            tx.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, args);
+                // 월간 집계도 같은 트랜잭션에서 날짜별로 한 번에 갱신
+                chunk.stream()
+                        .collect(Collectors.groupingBy(PendingCheckIn::workDate,
+                                Collectors.mapping(PendingCheckIn::employeeId, Collectors.toList())))
+                        .forEach((workDate, employeeIds) -> attendanceSummaryService.refresh(employeeIds, workDate));
+            });
+            // 커밋된 것만 대기열에서 제거 (실패하면 다음 주기에 재시도)
+            chunk.forEach(c -> pending.remove(c.employeeId(), c));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    // 날짜가 바뀌면 전날 대기분을 저장하고 출근 집합 초기화
+    private void rollOverIfNeeded(LocalDate today) {
+        if (today.equals(bufferDate)) {
+            return;
+        }
+        synchronized (this) {
+            if (today.equals(bufferDate)) {
+                return;
+            }
+            flush();
+            checkedInToday.clear();
+            bufferDate = today;
+        }
+    }
+
+    record PendingCheckIn(Long employeeId, LocalDate workDate, LocalTime checkInTime, String notes,
+            LocalDateTime createdAt) {
+
+        AttendanceResponseDto toResponse() {
+            return AttendanceResponseDto.builder()
+                    .workDate(workDate)
+                    .checkInTime(checkInTime)
+                    .status(AttendanceStatus.NORMAL.getDescription())
+                    .statusCode(AttendanceStatus.NORMAL.name())
+                    .workHours(0.0)
+                    .notes(notes)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.teamproject.workhub.service.attendanceService;
+
+import com.teamproject.workhub.dto.attendanceDto.PresenceEntryDto;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import com.teamproject.workhub.event.AttendanceCheckedInEvent;
+import com.teamproject.workhub.event.AttendanceCheckedOutEvent;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 오늘 출근 현황 실시간 전송 (SSE)
+// 출근/퇴근 처리 스레드는 구독자별 제한 크기 큐에 넣기만 하고, 실제 전송은 별도 스레드에서 수행
+// 큐가 가득 찬(느린) 구독자는 연결을 끊음 → 브라우저 EventSource가 재접속하면서 새 스냅샷을 받음
+@Component
+public class PresenceBroadcaster {
+
+    private final AttendanceRepository attendanceRepository;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ExecutorService sender;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public PresenceBroadcaster(AttendanceRepository attendanceRepository,
+            @Value("${workhub.attendance.presence.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${workhub.attendance.presence.buffer-size:256}") int bufferSize,
+            @Value("${workhub.attendance.presence.sender-threads:2}") int senderThreads) {
+        this.attendanceRepository = attendanceRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "presence-sse");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 구독: 먼저 오늘 현황 스냅샷을 보내고 이후 변경분 전송
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 스냅샷 조회 전에 등록해야 그 사이 발생한 변경분을 놓치지 않음 (중복은 클라이언트에서 덮어쓰기)
+        // 스냅샷 전송 전까지는 draining=true 로 두어 변경분이 스냅샷보다 먼저 나가지 않게 함
+        subscribers.add(subscriber);
+        List<PresenceEntryDto> snapshot = attendanceRepository.findPresenceByWorkDate(LocalDate.now());
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot));
+        } catch (IOException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscriber.draining().set(false);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckedIn(AttendanceCheckedInEvent event) {
+        if (event.workDate().equals(LocalDate.now())) {
+            publish(new PresenceEntryDto(event.employeeId(), AttendanceStatus.NORMAL, event.checkInTime(), null));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCheckedOut(AttendanceCheckedOutEvent event) {
+        if (event.workDate().equals(LocalDate.now())) {
+            publish(new PresenceEntryDto(event.employeeId(), event.status(), event.checkInTime(),
+                    event.checkOutTime()));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // 호출 스레드는 절대 대기하지 않음
+    private void publish(PresenceEntryDto delta) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue().offer(delta)) {
+                // 버퍼 초과 → 해당 구독자만 정리
+                subscribers.remove(subscriber);
+                subscriber.queue().clear();
+                sender.execute(subscriber.emitter()::complete);
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            PresenceEntryDto delta;
+            while ((delta = subscriber.queue().poll()) != null) {
+                subscriber.emitter().send(SseEmitter.event().name("delta").data(delta));
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.queue().clear();
+            // 비동기 요청을 바로 종료 (호출하지 않으면 타임아웃까지 요청이 열린 채로 남음)
+            subscriber.emitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+        // 전송 중 새로 들어온 변경분 처리
+        if (!subscriber.queue().isEmpty() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<PresenceEntryDto> queue, AtomicBoolean draining) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<PresenceEntryDto> queue) {
+            this(emitter, queue, new AtomicBoolean(true));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.teamproject.workhub.service.calendarService;
+
+import com.teamproject.workhub.dto.calendarDto.CalendarStatusDay;
+import com.teamproject.workhub.dto.calendarDto.DepartmentCalendarDto;
+import com.teamproject.workhub.dto.request.TeamAbsenceDto;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
+import com.teamproject.workhub.event.ObjectionStatusChangedEvent;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
+import com.teamproject.workhub.service.request.DepartmentLeaveIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 부서 월간 캘린더: 사원별로 종류마다 int 하나(하루 1비트)인 비트맵을 만들어 조회
+// 휴가/재택은 DepartmentLeaveIndex 에서 가져오고, 여기서는 휴가/병가/출장 근태 비트맵만 캐시
+// 정정 승인 시 비우고, 이벤트를 거치지 않는 변경은 TTL 로 반영
+@Service
+@RequiredArgsConstructor
+public class DepartmentCalendarService {
+
+    // 비트맵 종류 (순서 = 사원별 int 배열 내 위치)
+    private enum Kind {
+        LEAVE, REMOTE, VACATION, SICK_LEAVE, BUSINESS_TRIP
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final List<AttendanceStatus> ATTENDANCE_KINDS = List.of(
+            AttendanceStatus.VACATION, AttendanceStatus.SICK_LEAVE, AttendanceStatus.BUSINESS_TRIP);
+
+    private final DepartmentLeaveIndex departmentLeaveIndex;
+    private final AttendanceRepository attendanceRepository;
+
+    private final Map<CacheKey, MonthBitmap> cache = new ConcurrentHashMap<>();
+
+    @Value("${workhub.calendar.cache-ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    public DepartmentCalendarDto getCalendar(Long departNo, YearMonth month) {
+        CacheKey key = new CacheKey(departNo, month);
+        MonthBitmap cached = cache.get(key);
+        if (cached == null || System.currentTimeMillis() - cached.loadedAt > cacheTtlMs) {
+            cached = loadAttendance(departNo, month);
+            cache.put(key, cached);
+        }
+        MonthBitmap bitmap = withAbsences(cached, departmentLeaveIndex.getMonthlyAbsences(departNo, month), month);
+
+        List<DepartmentCalendarDto.Day> days = new ArrayList<>(month.lengthOfMonth());
+        for (int day = 0; day < month.lengthOfMonth(); day++) {
+            int mask = 1 << day;
+            List<DepartmentCalendarDto.Entry> entries = new ArrayList<>();
+            for (int e = 0; e < bitmap.employeeIds.length; e++) {
+                for (Kind kind : KINDS) {
+                    if ((bitmap.bits[e * KINDS.length + kind.ordinal()] & mask) != 0) {
+                        entries.add(new DepartmentCalendarDto.Entry(bitmap.employeeIds[e], bitmap.names[e], kind.name()));
+                    }
+                }
+            }
+            days.add(new DepartmentCalendarDto.Day(month.atDay(day + 1), entries));
+        }
+        return new DepartmentCalendarDto(departNo, month.toString(), days);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onObjectionStatusChanged(ObjectionStatusChangedEvent event) {
+        if (event.to() == ObjectionStatus.APPROVED) {
+            cache.clear();
+        }
+    }
+
+    // 휴가/병가/출장 근태 1회 조회로 비트맵 구성
+    private MonthBitmap loadAttendance(Long departNo, YearMonth month) {
+        Map<Long, int[]> bitsByEmployee = new LinkedHashMap<>();
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (CalendarStatusDay row : attendanceRepository.findDepartmentStatusDays(
+                departNo, month.atDay(1), month.atEndOfMonth(), ATTENDANCE_KINDS)) {
+            Kind kind = Kind.valueOf(row.status().name());
+            bitsByEmployee.computeIfAbsent(row.employeeId(), id -> new int[KINDS.length])[kind.ordinal()] |=
+                    1 << (row.workDate().getDayOfMonth() - 1);
+            names.putIfAbsent(row.employeeId(), row.name());
+        }
+        return toBitmap(bitsByEmployee, names, System.currentTimeMillis());
+    }
+
+    // 캐시된 근태 비트맵에 구간 인덱스의 휴가/재택을 더한 새 비트맵 (캐시 원본은 그대로)
+    private MonthBitmap withAbsences(MonthBitmap attendance, List<TeamAbsenceDto> absences, YearMonth month) {
+        if (absences.isEmpty()) {
+            return attendance;
+        }
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        Map<Long, int[]> bitsByEmployee = new LinkedHashMap<>();
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (int e = 0; e < attendance.employeeIds.length; e++) {
+            bitsByEmployee.put(attendance.employeeIds[e], Arrays.copyOfRange(
+                    attendance.bits, e * KINDS.length, (e + 1) * KINDS.length));
+            names.put(attendance.employeeIds[e], attendance.names[e]);
+        }
+
+        for (TeamAbsenceDto absence : absences) {
+            int from = (absence.getStartDate().isBefore(first) ? first : absence.getStartDate()).getDayOfMonth() - 1;
+            int to = (absence.getEndDate().isAfter(last) ? last : absence.getEndDate()).getDayOfMonth() - 1;
+            // from~to 비트를 한 번에 설정
+            int range = (int) ((1L << (to + 1)) - (1L << from));
+            Kind kind = Kind.valueOf(absence.getType().name());
+            bitsByEmployee.computeIfAbsent(absence.getEmployeeId(), id -> new int[KINDS.length])[kind.ordinal()] |= range;
+            names.putIfAbsent(absence.getEmployeeId(), absence.getName());
+        }
+        return toBitmap(bitsByEmployee, names, attendance.loadedAt);
+    }
+
+    private MonthBitmap toBitmap(Map<Long, int[]> bitsByEmployee, Map<Long, String> names, long loadedAt) {
+        int size = bitsByEmployee.size();
+        long[] employeeIds = new long[size];
+        String[] employeeNames = new String[size];
+        int[] bits = new int[size * KINDS.length];
+        int index = 0;
+        for (Map.Entry<Long, int[]> entry : bitsByEmployee.entrySet()) {
+            employeeIds[index] = entry.getKey();
+            employeeNames[index] = names.get(entry.getKey());
+            System.arraycopy(entry.getValue(), 0, bits, index * KINDS.length, KINDS.length);
+            index++;
+        }
+        return new MonthBitmap(employeeIds, employeeNames, bits, loadedAt);
+    }
+
+    private record CacheKey(Long departNo, YearMonth month) {
+    }
+
+    // 사원 i 의 종류 k 비트 = bits[i * KINDS.length + k] (bit d = d+1 일)
+    private record MonthBitmap(long[] employeeIds, String[] names, int[] bits, long loadedAt) {
+    }
+}
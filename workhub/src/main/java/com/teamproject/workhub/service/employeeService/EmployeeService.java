@@ -2,7 +2,6 @@ package com.teamproject.workhub.service.employeeService;
 
 import com.teamproject.workhub.dto.employeeDto.EmployeeUpdateDto;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
-import com.teamproject.workhub.entity.userEntity.User;
 import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,9 +15,9 @@ public class EmployeeService {
 
     // 내 정보 수정
     @Transactional
-    public void updateMyInfo(User loginUser, EmployeeUpdateDto updateDto) {
+    public void updateMyInfo(Long userId, EmployeeUpdateDto updateDto) {
         // 로그인한 User로 Employee 조회
-        Employee employee = employeeRepository.findByUser(loginUser)
+        Employee employee = employeeRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
 
         // Employee 엔티티의 updateMyInfo 메서드 호출
@@ -0,0 +1,215 @@
+package com.teamproject.workhub.service.leaveService;
+
+import com.teamproject.workhub.dto.leaveDto.LeaveBalanceDto;
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.leaveEntity.Holiday;
+import com.teamproject.workhub.entity.leaveEntity.LeaveLedgerEntry;
+import com.teamproject.workhub.entity.leaveEntity.LeaveLedgerType;
+import com.teamproject.workhub.entity.request.Request;
+import com.teamproject.workhub.entity.request.RequestStatus;
+import com.teamproject.workhub.entity.request.RequestType;
+import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
+import com.teamproject.workhub.repository.leaveRepository.HolidayRepository;
+import com.teamproject.workhub.repository.leaveRepository.LeaveLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 휴가 원장: 승인 시 차감(DEBIT), 승인 건 취소/반려 시 환원(CREDIT), 연초 부여(ACCRUAL)
+// 원장 추가와 employee.used_leave 갱신은 항상 같은 트랜잭션 → 잔여 조회는 사원 한 행만 읽음
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LeaveLedgerService {
+
+    private final LeaveLedgerRepository leaveLedgerRepository;
+    private final HolidayRepository holidayRepository;
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${workhub.leave.annual-days:15}")
+    private double annualDays;
+
+    // 상태 변경 1건 반영 (휴가 신청만 대상)
+    public void applyStatusChange(Request request, RequestStatus from, RequestStatus to) {
+        if (request.getType() != RequestType.LEAVE || from == to) {
+            return;
+        }
+        if (to == RequestStatus.APPROVED) {
+            debit(request);
+        } else if (from == RequestStatus.APPROVED) {
+            credit(request);
+        }
+    }
+
+    private void debit(Request request) {
+        Employee employee = employeeRepository.findByUserId(request.getUser().getId())
+                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+        double days = countWorkingDays(request.getStartDate(), request.getEndDate(),
+                holidaysBetween(request.getStartDate(), request.getEndDate()));
+        if (days == 0) {
+            return;
+        }
+
+        leaveLedgerRepository.save(LeaveLedgerEntry.builder()
+                .employeeId(employee.getEmployeeId())
+                .requestId(request.getId())
+                .entryType(LeaveLedgerType.DEBIT)
+                .days(days)
+                .leaveYear(request.getStartDate().getYear())
+                .memo(request.getStartDate() + " ~ " + request.getEndDate())
+                .build());
+        employeeRepository.addUsedLeave(employee.getEmployeeId(), days);
+    }
+
+    // 환원은 해당 신청의 DEBIT 행을 그대로 되돌림 (승인 후 공휴일이 바뀌어도 차감한 만큼만)
+    // 차감 기록이 없거나 이미 환원된 신청은 아무것도 하지 않음
+    private void credit(Request request) {
+        List<LeaveLedgerEntry> entries = leaveLedgerRepository.findByRequestIdOrderByIdDesc(request.getId());
+        long debits = entries.stream().filter(e -> e.getEntryType() == LeaveLedgerType.DEBIT).count();
+        long credits = entries.stream().filter(e -> e.getEntryType() == LeaveLedgerType.CREDIT).count();
+        if (debits <= credits) {
+            return;
+        }
+        LeaveLedgerEntry debit = entries.stream()
+                .filter(e -> e.getEntryType() == LeaveLedgerType.DEBIT)
+                .findFirst()
+                .get();
+
+        leaveLedgerRepository.save(LeaveLedgerEntry.builder()
+                .employeeId(debit.getEmployeeId())
+                .requestId(request.getId())
+                .entryType(LeaveLedgerType.CREDIT)
+                .days(debit.getDays())
+                .leaveYear(debit.getLeaveYear())
+                .memo(debit.getMemo())
+                .build());
+        employeeRepository.addUsedLeave(debit.getEmployeeId(), -debit.getDays());
+    }
+
+    // 일괄 승인 반영: 공휴일/사원 조회 각 1회, 원장 INSERT 와 사원 UPDATE 는 JDBC 배치
+    public void debitAll(List<Request> approved) {
+        List<Request> leaves = approved.stream()
+                .filter(r -> r.getType() == RequestType.LEAVE)
+                .collect(Collectors.toList());
+        if (leaves.isEmpty()) {
+            return;
+        }
+
+        LocalDate from = leaves.stream().map(Request::getStartDate).min(Comparator.naturalOrder()).get();
+        LocalDate to = leaves.stream().map(Request::getEndDate).max(Comparator.naturalOrder()).get();
+        Set<LocalDate> holidays = holidaysBetween(from, to);
+        Map<Long, Long> employeeIdByUserId = employeeRepository.findByUserIdIn(leaves.stream()
+                .map(r -> r.getUser().getId())
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(e -> e.getUser().getId(), Employee::getEmployeeId));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> entries = new ArrayList<>();
+        Map<Long, Double> usedByEmployee = new HashMap<>();
+        for (Request request : leaves) {
+            Long employeeId = employeeIdByUserId.get(request.getUser().getId());
+            double days = countWorkingDays(request.getStartDate(), request.getEndDate(), holidays);
+            if (employeeId == null || days == 0) {
+                continue;
+            }
+            entries.add(new Object[] { employeeId, request.getId(), LeaveLedgerType.DEBIT.name(), days,
+                    request.getStartDate().getYear(), request.getStartDate() + " ~ " + request.getEndDate(), now });
+            usedByEmployee.merge(employeeId, days, Double::sum);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO leave_ledger "
+                + "(employee_id, request_id, entry_type, days, leave_year, memo, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", entries);
+        jdbcTemplate.batchUpdate("UPDATE employee SET used_leave = COALESCE(used_leave, 0) + ? WHERE employeeId = ?",
+                usedByEmployee.entrySet().stream()
+                        .map(e -> new Object[] { e.getValue(), e.getKey() })
+                        .collect(Collectors.toList()));
+    }
+
+    // 연간 부여: 매년 1월 1일, 사원 수와 무관하게 UPDATE 1회 + INSERT ... SELECT 1회 (같은 연도 재실행 시 무시)
+    @Scheduled(cron = "${workhub.leave.accrual-cron:0 0 1 1 1 *}")
+    public void accrueCurrentYear() {
+        accrueYear(LocalDate.now().getYear());
+    }
+
+    public int accrueYear(int year) {
+        LocalDate yearStart = LocalDate.of(year, 1, 1);
+        leaveLedgerRepository.resetBalancesForYear(year, yearStart, annualDays);
+        return leaveLedgerRepository.insertAccrualEntries(year, yearStart, annualDays, year + "년 연차 부여");
+    }
+
+    // 근무일 수 (주말, 공휴일 제외)
+    @Transactional(readOnly = true)
+    public int countWorkingDays(LocalDate startDate, LocalDate endDate) {
+        return countWorkingDays(startDate, endDate, holidaysBetween(startDate, endDate));
+    }
+
+    @Transactional(readOnly = true)
+    public LeaveBalanceDto getBalance(Long employeeId) {
+        return employeeRepository.findById(employeeId)
+                .map(LeaveBalanceDto::from)
+                .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveLedgerEntry> getLedger(Long employeeId) {
+        return leaveLedgerRepository.findByEmployeeIdOrderByCreatedAtDescIdDesc(employeeId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Holiday> getHolidays(int year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    // 공휴일 등록/삭제는 이후 승인 건부터 반영 (기존 원장은 추가만 하는 구조라 소급하지 않음)
+    public Holiday addHoliday(LocalDate holidayDate, String name) {
+        if (holidayDate == null || name == null || name.isBlank()) {
+            throw new IllegalArgumentException("날짜와 이름을 입력해주세요.");
+        }
+        if (holidayRepository.existsByHolidayDate(holidayDate)) {
+            throw new IllegalArgumentException("이미 등록된 공휴일입니다: " + holidayDate);
+        }
+        return holidayRepository.save(Holiday.builder().holidayDate(holidayDate).name(name).build());
+    }
+
+    public void deleteHoliday(Long id) {
+        holidayRepository.deleteById(id);
+    }
+
+    private int countWorkingDays(LocalDate startDate, LocalDate endDate, Set<LocalDate> holidays) {
+        int days = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(date)) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    private Set<LocalDate> holidaysBetween(LocalDate startDate, LocalDate endDate) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(startDate, endDate).stream()
+                .map(Holiday::getHolidayDate)
+                .collect(Collectors.toSet());
+    }
+}
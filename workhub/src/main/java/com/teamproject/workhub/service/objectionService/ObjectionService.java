@@ -1,54 +1,168 @@
 package com.teamproject.workhub.service.objectionService;
 
 import com.teamproject.workhub.controller.objectionController.ObjectionRequestDto;
+import com.teamproject.workhub.dto.adminDto.AdminInboxPageResponse;
+import com.teamproject.workhub.dto.adminDto.AdminObjectionRow;
+import com.teamproject.workhub.dto.adminDto.AdminRequestResponse;
+import com.teamproject.workhub.dto.adminDto.BulkStatusResponse;
 import com.teamproject.workhub.entity.objectionRequest.ObjectionRequest;
 import com.teamproject.workhub.entity.objectionRequest.ObjectionStatus;
-import com.teamproject.workhub.entity.userEntity.User;
+import com.teamproject.workhub.event.ObjectionStatusChangedEvent;
+import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import com.teamproject.workhub.repository.objectionRepository.ObjectionRepository;
+import com.teamproject.workhub.repository.userRepository.UserRepository;
+import com.teamproject.workhub.service.attendanceService.AttendanceSummaryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ObjectionService {
+    private static final int MAX_BULK_SIZE = 1000;
+
     @Autowired
     private ObjectionRepository repository;
 
-    public ObjectionRequest submitObjection(User user, ObjectionRequestDto dto) {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public ObjectionRequest submitObjection(Long userId, ObjectionRequestDto dto) {
         ObjectionRequest request = new ObjectionRequest();
-        request.setUser(user);
+        request.setUser(userRepository.getReferenceById(userId));
         request.setAttendanceDate(dto.getAttendanceDate());
         request.setCategory(dto.getCategory());
         request.setReason(dto.getReason());
         request.setStatus(ObjectionStatus.PENDING);
-        return repository.save(request);
+        ObjectionRequest saved = repository.save(request);
+        eventPublisher.publishEvent(new ObjectionStatusChangedEvent(saved.getId(), null, ObjectionStatus.PENDING));
+        return saved;
     }
 
-    public List<ObjectionRequest> getMyObjections(User user) {
-        return repository.findByUser(user);
+    public List<ObjectionRequest> getMyObjections(Long userId) {
+        return repository.findByUserId(userId);
     }
 
-    public void cancelObjection(Long id, User user) {
+    public void cancelObjection(Long id, Long userId) {
         ObjectionRequest request = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
 
-        if (!request.getUser().getId().equals(user.getId())) {
+        if (!request.getUser().getId().equals(userId)) {
             throw new AccessDeniedException("Not authorized");
         }
 
         repository.delete(request);
+        eventPublisher.publishEvent(new ObjectionStatusChangedEvent(id, request.getStatus(), null));
     }
 
-    public List<ObjectionRequest> getAllObjections() {
-        return repository.findAll();
+    // 관리자 목록 (조인 1회 + 키셋 페이지, 다음 페이지는 nextCursor* 로 요청)
+    public AdminInboxPageResponse getAdminObjections(ObjectionStatus status, LocalDateTime cursorAt, Long cursorId, int size) {
+        List<AdminRequestResponse> rows = repository.findAdminRows(status, cursorAt, cursorId, Limit.of(size + 1)).stream()
+                .map(AdminObjectionRow::toResponse)
+                .collect(Collectors.toList());
+        return AdminInboxPageResponse.of(rows, size);
     }
 
+    @Transactional
     public ObjectionRequest updateStatus(Long id, ObjectionStatus status) {
         ObjectionRequest request = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
+        // 일괄 처리와 같은 규칙: 대기 건만 승인/거절
+        if (status != ObjectionStatus.APPROVED && status != ObjectionStatus.REJECTED) {
+            throw new IllegalArgumentException("승인 또는 거절만 처리할 수 있습니다.");
+        }
+        if (request.getStatus() != ObjectionStatus.PENDING) {
+            throw new IllegalArgumentException("이미 처리된 정정 요청입니다: " + request.getStatus());
+        }
+        ObjectionStatus previous = request.getStatus();
         request.setStatus(status);
-        return repository.save(request);
+        ObjectionRequest saved = repository.save(request);
+
+        // 승인된 정정 요청 → 해당 월 근태 집계 갱신
+        if (status == ObjectionStatus.APPROVED && request.getAttendanceDate() != null) {
+            employeeRepository.findByUserId(request.getUser().getId())
+                    .ifPresent(employee -> attendanceSummaryService.refresh(
+                            employee.getEmployeeId(), request.getAttendanceDate()));
+        }
+        eventPublisher.publishEvent(new ObjectionStatusChangedEvent(id, previous, status));
+        return saved;
+    }
+
+    // 일괄 승인/거절: 대상 행을 한 번에 잠가 판정한 뒤 UPDATE 1회 (versions 가 있으면 버전 불일치 건 제외)
+    @Transactional
+    public BulkStatusResponse bulkUpdateStatus(List<Long> ids, ObjectionStatus status, Map<Long, Long> versions) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("일괄 처리는 1~" + MAX_BULK_SIZE + "건까지 가능합니다.");
+        }
+        if (status != ObjectionStatus.APPROVED && status != ObjectionStatus.REJECTED) {
+            throw new IllegalArgumentException("승인 또는 거절만 일괄 처리할 수 있습니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, ObjectionRequest> current = repository.findAllByIdForUpdate(distinctIds).stream()
+                .collect(Collectors.toMap(ObjectionRequest::getId, o -> o));
+
+        List<ObjectionRequest> targets = new ArrayList<>();
+        List<BulkStatusResponse.Item> results = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ObjectionRequest request = current.get(id);
+            if (request == null) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.NOT_FOUND, null, null));
+            } else if (request.getStatus() != ObjectionStatus.PENDING) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.NOT_PENDING,
+                        request.getStatus().name(), request.getVersion()));
+            } else if (versions != null && versions.containsKey(id)
+                    && !Objects.equals(versions.get(id), request.getVersion())) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.VERSION_CONFLICT,
+                        request.getStatus().name(), request.getVersion()));
+            } else {
+                targets.add(request);
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.UPDATED,
+                        status.name(), request.getVersion() + 1));
+            }
+        }
+        if (targets.isEmpty()) {
+            return BulkStatusResponse.of(results);
+        }
+
+        repository.bulkUpdateStatus(targets.stream().map(ObjectionRequest::getId).collect(Collectors.toList()),
+                ObjectionStatus.PENDING, status);
+
+        // 승인된 정정 요청 → 사원 조회 1회 후 월별로 근태 집계 갱신
+        if (status == ObjectionStatus.APPROVED) {
+            Map<Long, Long> employeeIdByUserId = employeeRepository.findByUserIdIn(targets.stream()
+                    .map(o -> o.getUser().getId())
+                    .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(e -> e.getUser().getId(), e -> e.getEmployeeId()));
+            targets.stream()
+                    .filter(o -> o.getAttendanceDate() != null && employeeIdByUserId.containsKey(o.getUser().getId()))
+                    .collect(Collectors.groupingBy(o -> YearMonth.from(o.getAttendanceDate()),
+                            Collectors.mapping(o -> employeeIdByUserId.get(o.getUser().getId()), Collectors.toSet())))
+                    .forEach((month, employeeIds) -> attendanceSummaryService.refresh(employeeIds, month.atDay(1)));
+        }
+        targets.forEach(o -> eventPublisher.publishEvent(
+                new ObjectionStatusChangedEvent(o.getId(), ObjectionStatus.PENDING, status)));
+        return BulkStatusResponse.of(results);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.teamproject.workhub.service.request;
+
+import com.teamproject.workhub.dto.request.DepartmentCoverageDto;
+import com.teamproject.workhub.dto.request.TeamAbsenceDto;
+import com.teamproject.workhub.entity.request.RequestStatus;
+import com.teamproject.workhub.entity.request.RequestType;
+import com.teamproject.workhub.event.RequestStatusChangedEvent;
+import com.teamproject.workhub.repository.request.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+// 부서별 승인된 휴가/재택 구간 인덱스 (메모리, 부서 캘린더도 이 인덱스를 사용)
+// 시작일 정렬 배열 + 최장 구간 길이로, [from, to] 와 겹치는 구간은 이진 탐색 후 구간 수만큼만 스캔
+// (부서, 연도) 단위로 그 해와 겹치는 구간만 적재하고, 승인 상태가 바뀌면 비움 (이벤트를 거치지 않는 변경은 TTL 로 반영)
+@Component
+@RequiredArgsConstructor
+public class DepartmentLeaveIndex {
+
+    private final RequestRepository requestRepository;
+
+    private final Map<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${workhub.calendar.cache-ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    // 월간 일자별 휴가/재택 사원
+    public DepartmentCoverageDto getMonthlyCoverage(Long departNo, YearMonth month) {
+        Snapshot snapshot = snapshot(departNo, month.getYear());
+        LocalDate first = month.atDay(1);
+        int length = month.lengthOfMonth();
+
+        List<List<Long>> leave = new ArrayList<>(length);
+        List<List<Long>> remote = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            leave.add(new ArrayList<>());
+            remote.add(new ArrayList<>());
+        }
+
+        long from = first.toEpochDay();
+        long to = month.atEndOfMonth().toEpochDay();
+        snapshot.forEachOverlapping(from, to, i -> {
+            int startDay = (int) (Math.max(snapshot.starts[i], from) - from);
+            int endDay = (int) (Math.min(snapshot.ends[i], to) - from);
+            TeamAbsenceDto row = snapshot.rows[i];
+            List<List<Long>> target = row.getType() == RequestType.LEAVE ? leave : remote;
+            for (int day = startDay; day <= endDay; day++) {
+                target.get(day).add(row.getEmployeeId());
+            }
+        });
+
+        List<DepartmentCoverageDto.Day> days = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            days.add(new DepartmentCoverageDto.Day(first.plusDays(i), leave.get(i), remote.get(i)));
+        }
+        return new DepartmentCoverageDto(departNo, month.toString(), days);
+    }
+
+    // 해당 월과 겹치는 승인된 휴가/재택 (시작일 순)
+    public List<TeamAbsenceDto> getMonthlyAbsences(Long departNo, YearMonth month) {
+        Snapshot snapshot = snapshot(departNo, month.getYear());
+        List<TeamAbsenceDto> result = new ArrayList<>();
+        snapshot.forEachOverlapping(month.atDay(1).toEpochDay(), month.atEndOfMonth().toEpochDay(),
+                i -> result.add(snapshot.rows[i]));
+        return result;
+    }
+
+    // 승인 건이 생기거나 없어질 때만 비움 (부서 매핑 조회 없이 전체 비우고 다음 조회 때 부서별 재적재)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestStatusChanged(RequestStatusChangedEvent event) {
+        if (event.from() == RequestStatus.APPROVED || event.to() == RequestStatus.APPROVED) {
+            snapshots.clear();
+        }
+    }
+
+    private Snapshot snapshot(Long departNo, int year) {
+        SnapshotKey key = new SnapshotKey(departNo, year);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null || System.currentTimeMillis() - snapshot.loadedAt > cacheTtlMs) {
+            snapshot = load(departNo, year);
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    // 해당 연도와 겹치는 구간만 적재 (쿼리가 시작일 순으로 정렬해서 반환)
+    private Snapshot load(Long departNo, int year) {
+        TeamAbsenceDto[] rows = requestRepository.findDepartmentAbsences(departNo, RequestStatus.APPROVED,
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).toArray(new TeamAbsenceDto[0]);
+
+        long[] starts = new long[rows.length];
+        long[] ends = new long[rows.length];
+        long maxLength = 0;
+        for (int i = 0; i < rows.length; i++) {
+            starts[i] = rows[i].getStartDate().toEpochDay();
+            ends[i] = rows[i].getEndDate().toEpochDay();
+            maxLength = Math.max(maxLength, ends[i] - starts[i]);
+        }
+        return new Snapshot(starts, ends, rows, maxLength, System.currentTimeMillis());
+    }
+
+    private record SnapshotKey(Long departNo, int year) {
+    }
+
+    private record Snapshot(long[] starts, long[] ends, TeamAbsenceDto[] rows, long maxLength, long loadedAt) {
+
+        // 시작일이 from - maxLength 이상인 구간부터 시작일이 to 를 넘을 때까지만 확인
+        void forEachOverlapping(long from, long to, IntConsumer action) {
+            int index = Arrays.binarySearch(starts, from - maxLength);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            while (index > 0 && starts[index - 1] == from - maxLength) {
+                index--;
+            }
+            for (int i = index; i < starts.length && starts[i] <= to; i++) {
+                if (ends[i] >= from) {
+                    action.accept(i);
+                }
+            }
+        }
+    }
+}
@@ -1,60 +1,199 @@
 package com.teamproject.workhub.service.request;
 
+import com.teamproject.workhub.dto.adminDto.AdminInboxPageResponse;
+import com.teamproject.workhub.dto.adminDto.AdminRequestResponse;
+import com.teamproject.workhub.dto.adminDto.AdminWorkRequestRow;
+import com.teamproject.workhub.dto.adminDto.BulkStatusResponse;
+import com.teamproject.workhub.dto.request.DepartmentCoverageDto;
 import com.teamproject.workhub.dto.request.RequestDto;
+import com.teamproject.workhub.dto.request.TeamAbsenceDto;
 import com.teamproject.workhub.entity.request.Request;
 import com.teamproject.workhub.entity.request.RequestStatus;
-import com.teamproject.workhub.entity.userEntity.User;
+import com.teamproject.workhub.entity.request.RequestType;
+import com.teamproject.workhub.event.RequestStatusChangedEvent;
+import com.teamproject.workhub.repository.attendanceRepository.AttendanceRepository;
 import com.teamproject.workhub.repository.request.RequestRepository;
+import com.teamproject.workhub.repository.userRepository.UserRepository;
+import com.teamproject.workhub.service.leaveService.LeaveLedgerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class RequestService {
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final List<RequestStatus> ACTIVE_STATUSES = List.of(RequestStatus.PENDING, RequestStatus.APPROVED);
+
     @Autowired
     private RequestRepository repository;
 
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private DepartmentLeaveIndex departmentLeaveIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
-    public Request submitRequest(User user, RequestDto dto) {
+    public Request submitRequest(Long userId, Long employeeId, RequestDto dto) {
+        if (dto.getType() == null || dto.getStartDate() == null || dto.getEndDate() == null) {
+            throw new IllegalArgumentException("신청 유형과 기간을 입력해주세요.");
+        }
+        if (dto.getEndDate().isBefore(dto.getStartDate())) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        }
+        // (user_id, start_date, end_date) 인덱스 범위 조회 1회
+        if (repository.existsOverlapping(userId, dto.getStartDate(), dto.getEndDate(), ACTIVE_STATUSES)) {
+            throw new IllegalArgumentException("해당 기간에 이미 신청한 휴가/재택이 있습니다.");
+        }
+        // 휴가는 이미 출근한 날과 겹칠 수 없음
+        if (dto.getType() == RequestType.LEAVE) {
+            if (employeeId == null) {
+                throw new IllegalArgumentException("사원 정보를 찾을 수 없습니다.");
+            }
+            if (attendanceRepository.existsCheckInBetween(employeeId, dto.getStartDate(), dto.getEndDate())) {
+                throw new IllegalArgumentException("해당 기간에 이미 출근 기록이 있습니다.");
+            }
+        }
+
         Request request = Request.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .type(dto.getType())
                 .startDate(dto.getStartDate())
                 .endDate(dto.getEndDate())
                 .reason(dto.getReason())
                 .status(RequestStatus.PENDING)
                 .build();
-        return repository.save(request);
+        Request saved = repository.save(request);
+        eventPublisher.publishEvent(new RequestStatusChangedEvent(saved.getId(), null, RequestStatus.PENDING));
+        return saved;
     }
 
-    public List<Request> getMyRequests(User user) {
-        return repository.findByUserOrderByCreatedAtDesc(user);
+    public List<Request> getMyRequests(Long userId) {
+        return repository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
     @Transactional
-    public void cancelRequest(Long id, User user) {
+    public void cancelRequest(Long id, Long userId) {
         Request request = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
-        if (!request.getUser().getId().equals(user.getId())) {
+        if (!request.getUser().getId().equals(userId)) {
             throw new RuntimeException("Not authorized");
         }
+        // 승인된 휴가는 시작 전이면 취소 가능 (원장에 환원 기록)
+        if (request.getStatus() == RequestStatus.APPROVED && request.getStartDate().isAfter(LocalDate.now())) {
+            request.setStatus(RequestStatus.CANCELLED);
+            leaveLedgerService.applyStatusChange(request, RequestStatus.APPROVED, RequestStatus.CANCELLED);
+            eventPublisher.publishEvent(
+                    new RequestStatusChangedEvent(id, RequestStatus.APPROVED, RequestStatus.CANCELLED));
+            return;
+        }
         if (request.getStatus() != RequestStatus.PENDING) {
             throw new RuntimeException("Only pending requests can be cancelled");
         }
         repository.delete(request);
     }
 
-    public List<Request> getAllRequests() {
-        return repository.findAll();
+    // 관리자 목록 (조인 1회 + 키셋 페이지, 다음 페이지는 nextCursor* 로 요청)
+    public AdminInboxPageResponse getAdminRequests(RequestStatus status, LocalDateTime cursorAt, Long cursorId, int size) {
+        List<AdminRequestResponse> rows = repository.findAdminRows(status, cursorAt, cursorId, Limit.of(size + 1)).stream()
+                .map(AdminWorkRequestRow::toResponse)
+                .collect(Collectors.toList());
+        return AdminInboxPageResponse.of(rows, size);
     }
 
     @Transactional
     public Request updateStatus(Long id, RequestStatus status) {
         Request request = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
+        // 일괄 처리와 같은 규칙: 대기 건만 승인/거절 (APPROVED → APPROVED 재승인 시 원장 이중 차감 방지)
+        if (status != RequestStatus.APPROVED && status != RequestStatus.REJECTED) {
+            throw new IllegalArgumentException("승인 또는 거절만 처리할 수 있습니다.");
+        }
+        if (request.getStatus() != RequestStatus.PENDING) {
+            throw new IllegalArgumentException("이미 처리된 신청입니다: " + request.getStatus());
+        }
+        RequestStatus previous = request.getStatus();
         request.setStatus(status);
-        return repository.save(request);
+        Request saved = repository.save(request);
+        leaveLedgerService.applyStatusChange(saved, previous, status);
+        eventPublisher.publishEvent(new RequestStatusChangedEvent(id, previous, status));
+        return saved;
+    }
+
+    // 일괄 승인/거절: 대상 행을 한 번에 잠가 판정한 뒤 UPDATE 1회 (versions 가 있으면 버전 불일치 건 제외)
+    @Transactional
+    public BulkStatusResponse bulkUpdateStatus(List<Long> ids, RequestStatus status, Map<Long, Long> versions) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("일괄 처리는 1~" + MAX_BULK_SIZE + "건까지 가능합니다.");
+        }
+        if (status != RequestStatus.APPROVED && status != RequestStatus.REJECTED) {
+            throw new IllegalArgumentException("승인 또는 거절만 일괄 처리할 수 있습니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, Request> current = repository.findAllByIdForUpdate(distinctIds).stream()
+                .collect(Collectors.toMap(Request::getId, r -> r));
+
+        List<Long> targetIds = new ArrayList<>();
+        List<BulkStatusResponse.Item> results = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Request request = current.get(id);
+            if (request == null) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.NOT_FOUND, null, null));
+            } else if (request.getStatus() != RequestStatus.PENDING) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.NOT_PENDING,
+                        request.getStatus().name(), request.getVersion()));
+            } else if (versions != null && versions.containsKey(id)
+                    && !Objects.equals(versions.get(id), request.getVersion())) {
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.VERSION_CONFLICT,
+                        request.getStatus().name(), request.getVersion()));
+            } else {
+                targetIds.add(id);
+                results.add(new BulkStatusResponse.Item(id, BulkStatusResponse.Outcome.UPDATED,
+                        status.name(), request.getVersion() + 1));
+            }
+        }
+
+        if (!targetIds.isEmpty()) {
+            repository.bulkUpdateStatus(targetIds, RequestStatus.PENDING, status);
+            if (status == RequestStatus.APPROVED) {
+                leaveLedgerService.debitAll(targetIds.stream().map(current::get).collect(Collectors.toList()));
+            }
+            targetIds.forEach(id -> eventPublisher.publishEvent(
+                    new RequestStatusChangedEvent(id, RequestStatus.PENDING, status)));
+        }
+        return BulkStatusResponse.of(results);
+    }
+
+    // 부서원 중 특정 날짜에 휴가/재택인 사원
+    public List<TeamAbsenceDto> getDepartmentAbsences(Long departNo, LocalDate date) {
+        return repository.findDepartmentAbsences(departNo, RequestStatus.APPROVED, date, date);
+    }
+
+    // 부서 월간 휴가/재택 현황 (메모리 구간 인덱스)
+    public DepartmentCoverageDto getDepartmentCoverage(Long departNo, YearMonth month) {
+        return departmentLeaveIndex.getMonthlyCoverage(departNo, month);
     }
 }
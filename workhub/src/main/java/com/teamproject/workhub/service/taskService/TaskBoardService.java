@@ -0,0 +1,88 @@
+package com.teamproject.workhub.service.taskService;
+
+import com.teamproject.workhub.dto.taskDto.TaskBoardResponse;
+import com.teamproject.workhub.dto.taskDto.TaskResponseDto;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 칸반 보드 조회: 상태별 건수와 상위 N건을 윈도 함수 쿼리 한 번으로 가져옴
+// 전체 업무를 내려받지 않으므로 응답 크기는 (상태 수 × limit) 로 제한
+@Service
+@RequiredArgsConstructor
+public class TaskBoardService {
+
+    public static final int MAX_LIMIT = 100;
+
+    // ROW_NUMBER: 컬럼 내 순서 (priority NULL 은 뒤로, dueDate NULL 은 뒤로)
+    // COUNT(*) OVER: 같은 스캔에서 상태별 전체 건수
+    // tasks 의 담당자/부서 컬럼은 엔티티 이름 그대로(employeeId, UserId, departNo)라 별칭으로 맞춤
+    private static final String BOARD_SQL = "SELECT id, employeeId AS employee_id, UserId AS user_id, departNo AS depart_no, title, description, "
+            + "status, priority, due_date, created_at, status_count FROM ("
+            + "  SELECT t.*, "
+            + "         ROW_NUMBER() OVER (PARTITION BY t.status "
+            + "             ORDER BY t.priority IS NULL, t.priority, t.due_date IS NULL, t.due_date, t.id) AS rn, "
+            + "         COUNT(*) OVER (PARTITION BY t.status) AS status_count "
+            + "  FROM tasks t WHERE t.status IS NOT NULL%s"
+            + ") ranked WHERE rn <= ? ORDER BY status, rn";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // employeeId / departNo 는 선택 (둘 다 null 이면 전체 보드)
+    public TaskBoardResponse getBoard(Long employeeId, Long departNo, int limit) {
+        int perColumn = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (employeeId != null) {
+            where.append(" AND t.employeeId = ?");
+            args.add(employeeId);
+        }
+        if (departNo != null) {
+            where.append(" AND t.departNo = ?");
+            args.add(departNo);
+        }
+        args.add(perColumn);
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, List<TaskResponseDto>> tasks = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+            tasks.put(status, new ArrayList<>());
+        }
+
+        jdbcTemplate.query(String.format(BOARD_SQL, where), rs -> {
+            TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+            Date dueDate = rs.getDate("due_date");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+
+            counts.put(status, rs.getLong("status_count"));
+            tasks.get(status).add(TaskResponseDto.builder()
+                    .id(rs.getLong("id"))
+                    .employeeId(rs.getObject("employee_id", Long.class))
+                    .userId(rs.getObject("user_id", Long.class))
+                    .departNo(rs.getObject("depart_no", Long.class))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .status(status)
+                    .priority(rs.getObject("priority", Integer.class))
+                    .dueDate(dueDate != null ? dueDate.toLocalDate() : null)
+                    .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                    .build());
+        }, args.toArray());
+
+        List<TaskBoardResponse.Column> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.add(new TaskBoardResponse.Column(status, counts.get(status), tasks.get(status)));
+        }
+        return new TaskBoardResponse(perColumn, columns);
+    }
+}
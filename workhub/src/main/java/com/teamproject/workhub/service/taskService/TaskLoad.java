@@ -0,0 +1,27 @@
+package com.teamproject.workhub.service.taskService;
+
+import com.teamproject.workhub.entity.taskEntity.Task;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+
+import java.time.LocalDate;
+
+// 업무 부하 카운터에 영향을 주는 값만 뽑은 스냅샷 (변경 전/후 비교용)
+public record TaskLoad(Long employeeId, Long departNo, Integer priority, LocalDate dueDate, boolean open) {
+
+    public static TaskLoad of(Task task) {
+        return new TaskLoad(task.getEmployeeId(), task.getDepartNo(), task.getPriority(), task.getDueDate(),
+                isOpen(task.getStatus()));
+    }
+
+    public static boolean isOpen(TaskStatus status) {
+        return status == TaskStatus.TODO || status == TaskStatus.IN_PROGRESS;
+    }
+
+    public TaskLoad withStatus(TaskStatus status) {
+        return new TaskLoad(employeeId, departNo, priority, dueDate, isOpen(status));
+    }
+
+    public TaskLoad withAssignee(Long newEmployeeId, Long newDepartNo) {
+        return new TaskLoad(newEmployeeId, newDepartNo, priority, dueDate, open);
+    }
+}
@@ -1,48 +1,93 @@
 package com.teamproject.workhub.service.taskService;
 
 import java.time.LocalDate;
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.dto.taskDto.TaskBulkResponse;
+import com.teamproject.workhub.dto.taskDto.TaskPageResponse;
 import com.teamproject.workhub.dto.taskDto.TaskResponseDto;
+import com.teamproject.workhub.dto.taskDto.TaskSearchCondition;
 import com.teamproject.workhub.dto.taskDto.TaskUpdateRequest;
+import com.teamproject.workhub.entity.employeeEntity.Employee;
 import com.teamproject.workhub.entity.taskEntity.Task;
 import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import com.teamproject.workhub.repository.taskRepository.TaskRepository;
+import com.teamproject.workhub.repository.taskRepository.TaskSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TaskService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final TaskRepository taskRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TaskWorkloadService taskWorkloadService;
 
     public Task createTask(String title, String description, LocalDate dueDate, Long employeeId, Long userId) {
+        // 부서별 부하 집계를 위해 담당자의 부서를 함께 기록
+        Long departNo = employeeId == null ? null : employeeRepository.findById(employeeId)
+                .map(employee -> employee.getDepartment() != null ? employee.getDepartment().getDepartNo() : null)
+                .orElse(null);
+
         Task task = Task.builder()
                 .title(title)
                 .description(description)
                 .dueDate(dueDate)
                 .employeeId(employeeId)
                 .userId(userId)
+                .departNo(departNo)
                 .status(TaskStatus.TODO)
                 .build();
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        taskWorkloadService.apply(null, TaskLoad.of(saved));
+        return saved;
     }
 
     public Task updateTaskStatus(Long taskId, TaskStatus newStatus) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
+        TaskLoad before = TaskLoad.of(task);
 
         task.updateStatus(newStatus);
 
+        applyWorkload(before, task);
         return task;
     }
 
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    // 업무 검색 (조건별 인덱스 조회 + id 키셋 페이징)
+    @Transactional(readOnly = true)
+    public TaskPageResponse searchTasks(TaskSearchCondition condition) {
+        int pageSize = Math.min(Math.max(condition.getSize(), 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<Task> rows = taskRepository.findBy(TaskSpecifications.search(condition),
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return TaskPageResponse.builder()
+                .items(page.stream().map(TaskResponseDto::from).toList())
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
     }
 
     // 사원별 업무 조회
@@ -50,6 +95,11 @@ public class TaskService {
         return taskRepository.findByEmployeeId(employeeId);
     }
 
+    // 사원 정보가 없는 계정의 본인 업무
+    public List<Task> getUnassignedTasksByUserId(Long userId) {
+        return taskRepository.findByUserIdAndEmployeeIdIsNull(userId);
+    }
+
     // 업무 상세 조회
     public Task getTaskById(Long taskId) {
         return taskRepository.findById(taskId)
@@ -61,6 +111,7 @@ public class TaskService {
     public Task updateTask(Long taskId, TaskUpdateRequest request) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
+        TaskLoad before = TaskLoad.of(task);
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -68,6 +119,7 @@ public class TaskService {
         task.setPriority(request.getPriority());
         task.setDueDate(request.getDueDate());
 
+        applyWorkload(before, task);
         return task; // @Transactional에 의해 자동 저장됨
     }
 
@@ -75,10 +127,11 @@ public class TaskService {
     @Transactional
     public void deleteTask(Long taskId) {
         // 존재 여부 확인
-        if (!taskRepository.existsById(taskId)) {
-            throw new IllegalArgumentException("タスクが見つかりません: " + taskId);
-        }
-        taskRepository.deleteById(taskId);
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
+        taskRepository.delete(task);
+        taskRepository.flush();
+        taskWorkloadService.apply(TaskLoad.of(task), null);
     }
 
     // 업무 상태 변경
@@ -87,8 +140,10 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
 
+        TaskLoad before = TaskLoad.of(task);
         task.setStatus(TaskStatus.valueOf(status));
         Task updatedTask = taskRepository.save(task);
+        applyWorkload(before, updatedTask);
 
         return TaskResponseDto.from(updatedTask);
     }
@@ -105,19 +160,161 @@ public class TaskService {
         return TaskResponseDto.from(updatedTask);
     }
 
+    // 일괄 상태 변경: 대상 행을 한 번에 잠가 권한/현재 상태 판정 후 UPDATE 1회
+    public TaskBulkResponse bulkUpdateStatus(List<Long> ids, TaskStatus status, LoginPrincipal actor) {
+        if (status == null) {
+            throw new IllegalArgumentException("변경할 상태를 지정해주세요.");
+        }
+        // 승인/반려는 관리자만
+        if (!actor.isAdmin() && (status == TaskStatus.APPROVED || status == TaskStatus.REJECTED)) {
+            throw new IllegalArgumentException("승인/반려는 관리자만 할 수 있습니다.");
+        }
+
+        List<TaskBulkResponse.Item> results = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<TaskWorkloadService.Change> changes = new ArrayList<>();
+        for (Map.Entry<Long, Task> entry : lockForBulk(ids).entrySet()) {
+            Long id = entry.getKey();
+            Task task = entry.getValue();
+            TaskBulkResponse.Outcome outcome = checkAccess(task, actor);
+            // 관리자가 승인/반려한 업무는 일반 사용자가 되돌릴 수 없음
+            if (outcome == null && !actor.isAdmin()
+                    && (task.getStatus() == TaskStatus.APPROVED || task.getStatus() == TaskStatus.REJECTED)) {
+                outcome = TaskBulkResponse.Outcome.FORBIDDEN;
+            }
+            if (outcome == null) {
+                if (task.getStatus() == status) {
+                    outcome = TaskBulkResponse.Outcome.UNCHANGED;
+                } else {
+                    outcome = TaskBulkResponse.Outcome.UPDATED;
+                    targetIds.add(id);
+                    TaskLoad before = TaskLoad.of(task);
+                    changes.add(new TaskWorkloadService.Change(before, before.withStatus(status)));
+                }
+            }
+            results.add(new TaskBulkResponse.Item(id, outcome));
+        }
+
+        if (!targetIds.isEmpty()) {
+            taskRepository.bulkUpdateStatus(targetIds, status);
+            taskWorkloadService.applyAll(changes);
+        }
+        return TaskBulkResponse.of(results);
+    }
+
+    // 일괄 담당자 변경 (관리자 전용, 권한 체크는 컨트롤러)
+    public TaskBulkResponse bulkUpdateAssignee(List<Long> ids, Long employeeId, LoginPrincipal actor) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("사원 정보를 찾을 수 없습니다.");
+        }
+        Employee assignee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new IllegalArgumentException("사원 정보를 찾을 수 없습니다."));
+        Long departNo = assignee.getDepartment() != null ? assignee.getDepartment().getDepartNo() : null;
+
+        List<TaskBulkResponse.Item> results = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<TaskWorkloadService.Change> changes = new ArrayList<>();
+        for (Map.Entry<Long, Task> entry : lockForBulk(ids).entrySet()) {
+            Long id = entry.getKey();
+            Task task = entry.getValue();
+            TaskBulkResponse.Outcome outcome = checkAccess(task, actor);
+            if (outcome == null) {
+                if (employeeId.equals(task.getEmployeeId()) && Objects.equals(departNo, task.getDepartNo())) {
+                    outcome = TaskBulkResponse.Outcome.UNCHANGED;
+                } else {
+                    outcome = TaskBulkResponse.Outcome.UPDATED;
+                    targetIds.add(id);
+                    TaskLoad before = TaskLoad.of(task);
+                    changes.add(new TaskWorkloadService.Change(before, before.withAssignee(employeeId, departNo)));
+                }
+            }
+            results.add(new TaskBulkResponse.Item(id, outcome));
+        }
+
+        if (!targetIds.isEmpty()) {
+            taskRepository.bulkUpdateEmployee(targetIds, employeeId, departNo);
+            taskWorkloadService.applyAll(changes);
+        }
+        return TaskBulkResponse.of(results);
+    }
+
+    // 일괄 삭제
+    public TaskBulkResponse bulkDelete(List<Long> ids, LoginPrincipal actor) {
+        List<TaskBulkResponse.Item> results = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<TaskWorkloadService.Change> changes = new ArrayList<>();
+        for (Map.Entry<Long, Task> entry : lockForBulk(ids).entrySet()) {
+            Long id = entry.getKey();
+            TaskBulkResponse.Outcome outcome = checkAccess(entry.getValue(), actor);
+            if (outcome == null) {
+                outcome = TaskBulkResponse.Outcome.DELETED;
+                targetIds.add(id);
+                changes.add(new TaskWorkloadService.Change(TaskLoad.of(entry.getValue()), null));
+            }
+            results.add(new TaskBulkResponse.Item(id, outcome));
+        }
+
+        if (!targetIds.isEmpty()) {
+            taskRepository.bulkDelete(targetIds);
+            taskWorkloadService.applyAll(changes);
+        }
+        return TaskBulkResponse.of(results);
+    }
+
+    // 업무 부하 카운터 반영 (재조회가 변경된 행을 보도록 먼저 flush)
+    private void applyWorkload(TaskLoad before, Task task) {
+        taskRepository.flush();
+        taskWorkloadService.apply(before, TaskLoad.of(task));
+    }
+
+    // 요청 id 순서를 유지한 채 대상 행 잠금 조회 (없는 id 는 값이 null)
+    private Map<Long, Task> lockForBulk(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("일괄 처리는 1~" + MAX_BULK_SIZE + "건까지 가능합니다.");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, Task> found = taskRepository.findAllByIdForUpdate(distinctIds).stream()
+                .collect(Collectors.toMap(Task::getId, t -> t));
+
+        Map<Long, Task> ordered = new LinkedHashMap<>();
+        distinctIds.forEach(id -> ordered.put(id, found.get(id)));
+        return ordered;
+    }
+
+    // 처리 불가 사유 (처리 가능하면 null)
+    // 관리자는 전체, 일반 사용자는 본인 담당 업무 또는 본인이 등록한 업무
+    private TaskBulkResponse.Outcome checkAccess(Task task, LoginPrincipal actor) {
+        if (task == null) {
+            return TaskBulkResponse.Outcome.NOT_FOUND;
+        }
+        if (actor.isAdmin()
+                || (actor.employeeId() != null && actor.employeeId().equals(task.getEmployeeId()))
+                || actor.userId().equals(task.getUserId())) {
+            return null;
+        }
+        return TaskBulkResponse.Outcome.FORBIDDEN;
+    }
+
     @Transactional
     public Task approveTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
+        TaskLoad before = TaskLoad.of(task);
         task.setStatus(TaskStatus.APPROVED);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        applyWorkload(before, saved);
+        return saved;
     }
 
     @Transactional
     public Task rejectTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません: " + taskId));
+        TaskLoad before = TaskLoad.of(task);
         task.setStatus(TaskStatus.REJECTED);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        applyWorkload(before, saved);
+        return saved;
     }
 }
@@ -0,0 +1,222 @@
+package com.teamproject.workhub.service.taskService;
+
+import com.teamproject.workhub.dto.taskDto.TaskWorkloadResponse;
+import com.teamproject.workhub.entity.taskEntity.WorkloadScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 업무 부하 카운터 (task_workload)
+// 업무 변경 시 변경 전/후 스냅샷 차이만 사원/부서 행에 증감 → 조회 시 tasks 전체 GROUP BY 없음
+// 가장 가까운 마감일은 증가 시 LEAST 로 갱신, 그 날짜의 업무가 빠질 때만 해당 범위를 인덱스로 재조회
+@Service
+@RequiredArgsConstructor
+public class TaskWorkloadService {
+
+    private static final String OPEN_STATUSES = "('TODO', 'IN_PROGRESS')";
+
+    private static final String UPSERT_SQL = "INSERT INTO task_workload "
+            + "(scope_type, scope_id, open_count, p1_count, p2_count, p3_count, other_count, nearest_due_date, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "open_count = open_count + VALUES(open_count), "
+            + "p1_count = p1_count + VALUES(p1_count), "
+            + "p2_count = p2_count + VALUES(p2_count), "
+            + "p3_count = p3_count + VALUES(p3_count), "
+            + "other_count = other_count + VALUES(other_count), "
+            + "nearest_due_date = LEAST(COALESCE(nearest_due_date, VALUES(nearest_due_date)), "
+            + "                         COALESCE(VALUES(nearest_due_date), nearest_due_date)), "
+            + "updated_at = VALUES(updated_at)";
+
+    // 빠진 업무의 마감일이 현재 최솟값이었던 경우에만 재조회 ((employeeId|departNo, status) 인덱스)
+    private static final String RECOMPUTE_NEAREST_SQL = "UPDATE task_workload SET nearest_due_date = "
+            + "(SELECT MIN(t.due_date) FROM tasks t WHERE t.%s = ? AND t.status IN " + OPEN_STATUSES + ") "
+            + "WHERE scope_type = ? AND scope_id = ? AND nearest_due_date >= ?";
+
+    private static final String REBUILD_SQL = "INSERT INTO task_workload "
+            + "(scope_type, scope_id, open_count, p1_count, p2_count, p3_count, other_count, nearest_due_date, updated_at) "
+            + "SELECT ?, t.%1$s, COUNT(*), "
+            + "SUM(CASE WHEN t.priority = 1 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN t.priority = 2 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN t.priority = 3 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN t.priority IN (1, 2, 3) THEN 0 ELSE 1 END), "
+            + "MIN(t.due_date), ? "
+            + "FROM tasks t WHERE t.status IN " + OPEN_STATUSES + " AND t.%1$s IS NOT NULL GROUP BY t.%1$s";
+
+    private static final String EMPLOYEE_WORKLOAD_SQL = "SELECT e.employeeId AS id, e.name, e.departNo AS depart_no, "
+            + "w.open_count, w.p1_count, w.p2_count, w.p3_count, w.other_count, w.nearest_due_date "
+            + "FROM employee e LEFT JOIN task_workload w ON w.scope_type = 'EMPLOYEE' AND w.scope_id = e.employeeId "
+            + "WHERE (e.resignation_date IS NULL OR e.resignation_date >= CURDATE())%s ORDER BY e.name, e.employeeId";
+
+    private static final String DEPARTMENT_WORKLOAD_SQL = "SELECT d.departNo AS id, d.departName AS name, d.departNo AS depart_no, "
+            + "w.open_count, w.p1_count, w.p2_count, w.p3_count, w.other_count, w.nearest_due_date "
+            + "FROM department d LEFT JOIN task_workload w ON w.scope_type = 'DEPARTMENT' AND w.scope_id = d.departNo"
+            + "%s ORDER BY d.departNo";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 변경 전/후 (등록은 before = null, 삭제는 after = null)
+    public record Change(TaskLoad before, TaskLoad after) {
+    }
+
+    public void apply(TaskLoad before, TaskLoad after) {
+        applyAll(List.of(new Change(before, after)));
+    }
+
+    // 호출 측 트랜잭션 안에서 실행 (업무 변경과 함께 커밋/롤백)
+    // 재조회가 변경 후 tasks 를 읽어야 하므로 JPA 변경은 호출 전에 flush 되어 있어야 함
+    public void applyAll(List<Change> changes) {
+        Map<ScopeKey, Delta> deltas = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (change.before() != null && change.before().equals(change.after())) {
+                continue;
+            }
+            if (change.before() != null && change.before().open()) {
+                accumulate(deltas, change.before(), -1);
+            }
+            if (change.after() != null && change.after().open()) {
+                accumulate(deltas, change.after(), 1);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> upserts = new ArrayList<>();
+        deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                upserts.add(new Object[] {
+                        key.scope().name(), key.id(), delta.open, delta.p1, delta.p2, delta.p3, delta.other,
+                        delta.minAdded != null ? Date.valueOf(delta.minAdded) : null, now });
+            }
+        });
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta.minRemoved != null) {
+                jdbcTemplate.update(String.format(RECOMPUTE_NEAREST_SQL, column(key.scope())),
+                        key.id(), key.scope().name(), key.id(), Date.valueOf(delta.minRemoved));
+            }
+        });
+    }
+
+    // 배정 화면용 부하 조회 (departNo 지정 시 해당 부서만)
+    @Transactional(readOnly = true)
+    public TaskWorkloadResponse getWorkload(Long departNo) {
+        RowMapper<TaskWorkloadResponse.Row> mapper = (rs, rowNum) -> {
+            Date nearest = rs.getDate("nearest_due_date");
+            return TaskWorkloadResponse.Row.builder()
+                    .id(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .departNo(rs.getObject("depart_no", Long.class))
+                    .openCount(rs.getInt("open_count"))
+                    .priority1(rs.getInt("p1_count"))
+                    .priority2(rs.getInt("p2_count"))
+                    .priority3(rs.getInt("p3_count"))
+                    .otherPriority(rs.getInt("other_count"))
+                    .nearestDueDate(nearest != null ? nearest.toLocalDate() : null)
+                    .build();
+        };
+
+        List<TaskWorkloadResponse.Row> employees;
+        List<TaskWorkloadResponse.Row> departments;
+        if (departNo != null) {
+            employees = jdbcTemplate.query(String.format(EMPLOYEE_WORKLOAD_SQL, " AND e.departNo = ?"), mapper, departNo);
+            departments = jdbcTemplate.query(String.format(DEPARTMENT_WORKLOAD_SQL, " WHERE d.departNo = ?"), mapper, departNo);
+        } else {
+            employees = jdbcTemplate.query(String.format(EMPLOYEE_WORKLOAD_SQL, ""), mapper);
+            departments = jdbcTemplate.query(String.format(DEPARTMENT_WORKLOAD_SQL, ""), mapper);
+        }
+        return new TaskWorkloadResponse(employees, departments);
+    }
+
+    // 카운터가 비어 있으면 (최초 배포) tasks 기준으로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (jdbcTemplate.queryForList("SELECT id FROM task_workload LIMIT 1").isEmpty()) {
+            rebuild();
+        }
+    }
+
+    // 전체 재계산 (증감 누락 보정, 하루 1회)
+    @Scheduled(cron = "${workhub.task.workload.rebuild-cron:0 40 0 * * *}")
+    @Transactional
+    public void rebuild() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM task_workload");
+        for (WorkloadScope scope : WorkloadScope.values()) {
+            jdbcTemplate.update(String.format(REBUILD_SQL, column(scope)), scope.name(), now);
+        }
+    }
+
+    private void accumulate(Map<ScopeKey, Delta> deltas, TaskLoad load, int sign) {
+        if (load.employeeId() != null) {
+            deltas.computeIfAbsent(new ScopeKey(WorkloadScope.EMPLOYEE, load.employeeId()), k -> new Delta())
+                    .add(load, sign);
+        }
+        if (load.departNo() != null) {
+            deltas.computeIfAbsent(new ScopeKey(WorkloadScope.DEPARTMENT, load.departNo()), k -> new Delta())
+                    .add(load, sign);
+        }
+    }
+
+    private static String column(WorkloadScope scope) {
+        return scope == WorkloadScope.EMPLOYEE ? "employeeId" : "departNo";
+    }
+
+    private record ScopeKey(WorkloadScope scope, Long id) {
+    }
+
+    private static final class Delta {
+        private int open;
+        private int p1;
+        private int p2;
+        private int p3;
+        private int other;
+        private LocalDate minAdded;
+        private LocalDate minRemoved;
+
+        void add(TaskLoad load, int sign) {
+            open += sign;
+            Integer priority = load.priority();
+            if (priority != null && priority == 1) {
+                p1 += sign;
+            } else if (priority != null && priority == 2) {
+                p2 += sign;
+            } else if (priority != null && priority == 3) {
+                p3 += sign;
+            } else {
+                other += sign;
+            }
+
+            LocalDate due = load.dueDate();
+            if (due != null && sign > 0 && (minAdded == null || due.isBefore(minAdded))) {
+                minAdded = due;
+            }
+            if (due != null && sign < 0 && (minRemoved == null || due.isBefore(minRemoved))) {
+                minRemoved = due;
+            }
+        }
+
+        boolean isZero() {
+            return open == 0 && p1 == 0 && p2 == 0 && p3 == 0 && other == 0 && minAdded == null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 로컬용: 알림을 NDJSON 한 줄씩 파일에 추가 (외부 알림 연동 전 확인용)
+public class FileReminderNotifier implements ReminderNotifier {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileReminderNotifier(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void send(TaskReminderMessage message) {
+        try {
+            Files.writeString(path, objectMapper.writeValueAsString(message) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// 로컬용: 알림 내용을 로그로만 출력
+public class LogReminderNotifier implements ReminderNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LogReminderNotifier.class);
+
+    @Override
+    public void send(TaskReminderMessage message) {
+        log.info("[task-reminder] {} task={} employee={} due={} title={}",
+                message.type(), message.taskId(), message.employeeId(), message.dueDate(), message.title());
+    }
+}
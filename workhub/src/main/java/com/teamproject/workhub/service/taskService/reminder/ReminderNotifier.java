@@ -0,0 +1,8 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+// 업무 마감 알림 발송 (workhub.task.reminder.notifier 로 선택: log | file)
+// 실패 시 예외를 던지면 아웃박스에 남아 다음 주기에 재시도
+public interface ReminderNotifier {
+
+    void send(TaskReminderMessage message);
+}
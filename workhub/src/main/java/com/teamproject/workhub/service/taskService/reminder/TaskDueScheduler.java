@@ -0,0 +1,103 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+import com.teamproject.workhub.entity.taskEntity.TaskReminderType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 업무 마감 감지: 마감 임박/경과 업무를 찾아 task_reminder_outbox 에 적재
+// - 매 실행마다 고정 범위(임박: 오늘 ~ 오늘+lead-days, 경과: 오늘-lookback ~ 어제)를 다시 확인
+//   (마감일이 나중에 앞당겨지거나 새로 생긴 업무도 놓치지 않음)
+// - tasks (status, due_date) 인덱스 범위 조회 + 이미 적재된 건은 uk_task_reminder 로 제외 → 새 대상만 읽음
+// - batch-size 건씩 (due_date, id) 키셋으로 끊어서 처리 (배치마다 한 트랜잭션)
+@Component
+@RequiredArgsConstructor
+public class TaskDueScheduler {
+
+    // 미완료 상태만 대상, 같은 업무/종류/마감일로 이미 적재된 건 제외
+    private static final String SCAN_SQL = "SELECT t.id, t.employeeId AS employee_id, t.UserId AS user_id, "
+            + "t.title, t.due_date FROM tasks t "
+            + "WHERE t.status IN ('TODO', 'IN_PROGRESS') AND t.due_date >= ? AND t.due_date <= ? "
+            + "AND (t.due_date > ? OR (t.due_date = ? AND t.id > ?)) "
+            + "AND NOT EXISTS (SELECT 1 FROM task_reminder_outbox o "
+            + "                WHERE o.task_id = t.id AND o.reminder_type = ? AND o.due_date = t.due_date) "
+            + "ORDER BY t.due_date, t.id LIMIT ?";
+
+    // 동시에 다른 서버가 먼저 적재했으면 무시 (uk_task_reminder)
+    private static final String OUTBOX_SQL = "INSERT INTO task_reminder_outbox "
+            + "(task_id, employee_id, user_id, reminder_type, due_date, title, status, attempts, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${workhub.task.reminder.lead-days:1}")
+    private int leadDays;
+
+    @Value("${workhub.task.reminder.overdue-lookback-days:7}")
+    private int overdueLookbackDays;
+
+    @Value("${workhub.task.reminder.batch-size:500}")
+    private int batchSize;
+
+    @Value("${workhub.task.reminder.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${workhub.task.reminder.scan-interval-ms:300000}")
+    public void scheduledScan() {
+        scan(LocalDate.now());
+    }
+
+    // 반환: 이번 실행에서 새로 적재한 업무 수
+    public int scan(LocalDate today) {
+        // 마감 임박: 오늘 ~ 오늘+leadDays (이미 지난 건은 OVERDUE 에서 처리)
+        int dueSoon = scan(TaskReminderType.DUE_SOON, today, today.plusDays(leadDays));
+        // 마감 경과: lookback 일수 이내 ~ 어제
+        int overdue = scan(TaskReminderType.OVERDUE, today.minusDays(overdueLookbackDays), today.minusDays(1));
+        return dueSoon + overdue;
+    }
+
+    private int scan(TaskReminderType type, LocalDate from, LocalDate to) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Cursor cursor = new Cursor(from, 0L);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun && cursor != null; batch++) {
+            Cursor start = cursor;
+            List<Object[]> outbox = tx.execute(status -> scanBatch(type, from, to, start));
+            total += outbox.size();
+            cursor = outbox.size() < batchSize ? null : lastOf(outbox);
+        }
+        return total;
+    }
+
+    private List<Object[]> scanBatch(TaskReminderType type, LocalDate from, LocalDate to, Cursor cursor) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> outbox = jdbcTemplate.query(SCAN_SQL, (rs, rowNum) -> new Object[] {
+                rs.getLong("id"), rs.getObject("employee_id", Long.class), rs.getObject("user_id", Long.class),
+                type.name(), rs.getDate("due_date"), rs.getString("title"), now },
+                Date.valueOf(from), Date.valueOf(to),
+                Date.valueOf(cursor.date()), Date.valueOf(cursor.date()), cursor.id(), type.name(), batchSize);
+        if (!outbox.isEmpty()) {
+            jdbcTemplate.batchUpdate(OUTBOX_SQL, outbox);
+        }
+        return outbox;
+    }
+
+    private static Cursor lastOf(List<Object[]> outbox) {
+        Object[] last = outbox.get(outbox.size() - 1);
+        return new Cursor(((Date) last[4]).toLocalDate(), (Long) last[0]);
+    }
+
+    private record Cursor(LocalDate date, long id) {
+    }
+}
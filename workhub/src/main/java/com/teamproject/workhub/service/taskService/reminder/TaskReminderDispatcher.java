@@ -0,0 +1,112 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+import com.teamproject.workhub.entity.taskEntity.TaskReminderType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 아웃박스 발송: PENDING 을 id 순으로 batch 건씩 꺼내 ReminderNotifier 로 전달
+// SKIP LOCKED 로 여러 서버가 같은 건을 중복 발송하지 않음, 실패는 max-attempts 까지 재시도
+// 발송 직전 업무 상태를 다시 확인해 완료됐거나 마감일이 바뀐 업무의 알림은 보내지 않고 삭제
+@Component
+@RequiredArgsConstructor
+public class TaskReminderDispatcher {
+
+    private static final String PENDING_SQL = "SELECT id, task_id, employee_id, user_id, reminder_type, due_date, "
+            + "title, attempts FROM task_reminder_outbox WHERE status = 'PENDING' "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ReminderNotifier reminderNotifier;
+
+    @Value("${workhub.task.reminder.dispatch-batch-size:100}")
+    private int batchSize;
+
+    @Value("${workhub.task.reminder.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${workhub.task.reminder.dispatch-interval-ms:10000}")
+    public void dispatch() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> dispatchBatch());
+    }
+
+    private void dispatchBatch() {
+        List<TaskReminderMessage> batch = jdbcTemplate.query(PENDING_SQL, (rs, rowNum) -> new TaskReminderMessage(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                rs.getObject("employee_id", Long.class),
+                rs.getObject("user_id", Long.class),
+                TaskReminderType.valueOf(rs.getString("reminder_type")),
+                rs.getDate("due_date").toLocalDate(),
+                rs.getString("title"),
+                rs.getInt("attempts")), batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Long, LocalDate> openDueDates = findOpenDueDates(batch);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> failed = new ArrayList<>();
+        List<Object[]> stale = new ArrayList<>();
+        for (TaskReminderMessage message : batch) {
+            if (!message.dueDate().equals(openDueDates.get(message.taskId()))) {
+                stale.add(new Object[] { message.id() });
+                continue;
+            }
+            try {
+                reminderNotifier.send(message);
+                sent.add(new Object[] { now, message.id() });
+            } catch (RuntimeException e) {
+                int attempts = message.attempts() + 1;
+                String error = String.valueOf(e.getMessage());
+                failed.add(new Object[] {
+                        attempts >= maxAttempts ? "FAILED" : "PENDING", attempts,
+                        error.length() > 500 ? error.substring(0, 500) : error, message.id() });
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE task_reminder_outbox SET status = 'SENT', "
+                    + "attempts = attempts + 1, sent_at = ? WHERE id = ?", sent);
+        }
+        if (!failed.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE task_reminder_outbox SET status = ?, attempts = ?, last_error = ? "
+                    + "WHERE id = ?", failed);
+        }
+        // 다시 미완료가 되거나 새 마감일이 범위에 들어오면 TaskDueScheduler 가 새로 적재
+        if (!stale.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM task_reminder_outbox WHERE id = ?", stale);
+        }
+    }
+
+    // 배치의 업무 중 아직 미완료인 업무의 현재 마감일 (1회 조회)
+    private Map<Long, LocalDate> findOpenDueDates(List<TaskReminderMessage> batch) {
+        List<Long> taskIds = batch.stream().map(TaskReminderMessage::taskId).distinct().collect(Collectors.toList());
+        Map<Long, LocalDate> dueDates = new HashMap<>();
+        jdbcTemplate.query("SELECT id, due_date FROM tasks WHERE status IN ('TODO', 'IN_PROGRESS') AND id IN ("
+                + String.join(", ", Collections.nCopies(taskIds.size(), "?")) + ")", rs -> {
+            Date dueDate = rs.getDate("due_date");
+            if (dueDate != null) {
+                dueDates.put(rs.getLong("id"), dueDate.toLocalDate());
+            }
+        }, taskIds.toArray());
+        return dueDates;
+    }
+}
@@ -0,0 +1,10 @@
+package com.teamproject.workhub.service.taskService.reminder;
+
+import com.teamproject.workhub.entity.taskEntity.TaskReminderType;
+
+import java.time.LocalDate;
+
+// 아웃박스 한 건 (알림 발송 대상)
+public record TaskReminderMessage(Long id, Long taskId, Long employeeId, Long userId,
+        TaskReminderType type, LocalDate dueDate, String title, int attempts) {
+}
@@ -0,0 +1,8 @@
+package com.teamproject.workhub.service.userService;
+
+// 비밀번호 검증 풀이 가득 찼거나 대기 시간을 넘긴 경우 (→ 503, 잠시 후 재시도)
+public class LoginBusyException extends RuntimeException {
+    public LoginBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.teamproject.workhub.service.userService;
+
+import com.teamproject.workhub.dto.userDto.LoginMetricsResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 로그인 처리량/지연 시간 측정 (동시 로그인 부하 테스트 전후로 reset → 조회)
+// 지연 시간은 1ms 단위 버킷 히스토그램으로 모아 p50/p99 계산 (MAX_MILLIS 이상은 마지막 버킷)
+@Component
+public class LoginMetrics {
+
+    public enum Outcome { SUCCESS, FAILURE, REJECTED }
+
+    private static final int MAX_MILLIS = 10_000;
+
+    private volatile Window window = new Window();
+
+    public void recordLogin(Outcome outcome, long elapsedNanos) {
+        Window current = window;
+        switch (outcome) {
+            case SUCCESS -> current.success.increment();
+            case FAILURE -> current.failure.increment();
+            case REJECTED -> current.rejected.increment();
+        }
+        current.loginLatency.record(elapsedNanos);
+    }
+
+    public void recordVerify(long elapsedNanos) {
+        window.verifyLatency.record(elapsedNanos);
+    }
+
+    public void reset() {
+        window = new Window();
+    }
+
+    public LoginMetricsResponse snapshot(int activeVerifications, int queuedVerifications) {
+        Window current = window;
+        long success = current.success.sum();
+        long failure = current.failure.sum();
+        long rejected = current.rejected.sum();
+        double elapsedSeconds = Math.max((System.nanoTime() - current.startedNanos) / 1e9, 0.001);
+
+        return LoginMetricsResponse.builder()
+                .since(current.startedAt)
+                .success(success)
+                .failure(failure)
+                .rejected(rejected)
+                .throughputPerSecond(Math.round((success + failure) / elapsedSeconds * 10) / 10.0)
+                .loginP50Ms(current.loginLatency.percentile(0.50))
+                .loginP99Ms(current.loginLatency.percentile(0.99))
+                .verifyP50Ms(current.verifyLatency.percentile(0.50))
+                .verifyP99Ms(current.verifyLatency.percentile(0.99))
+                .activeVerifications(activeVerifications)
+                .queuedVerifications(queuedVerifications)
+                .build();
+    }
+
+    // 측정 구간 (reset 시 통째로 교체)
+    private static final class Window {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final LongAdder success = new LongAdder();
+        private final LongAdder failure = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Histogram loginLatency = new Histogram();
+        private final Histogram verifyLatency = new Histogram();
+    }
+
+    private static final class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(MAX_MILLIS + 1);
+        private final LongAdder count = new LongAdder();
+
+        void record(long elapsedNanos) {
+            int millis = (int) Math.min(elapsedNanos / 1_000_000, MAX_MILLIS);
+            buckets.incrementAndGet(millis);
+            count.increment();
+        }
+
+        // 해당 백분위가 속한 버킷의 상한 (ms), 기록이 없으면 0
+        long percentile(double quantile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int millis = 0; millis <= MAX_MILLIS; millis++) {
+                seen += buckets.get(millis);
+                if (seen >= rank) {
+                    return millis + 1;
+                }
+            }
+            return MAX_MILLIS;
+        }
+    }
+}
@@ -8,14 +8,18 @@ import com.teamproject.workhub.entity.DepartmentEntity.Department;
 import com.teamproject.workhub.entity.employeeEntity.Employee;
 import com.teamproject.workhub.entity.userEntity.Role;
 import com.teamproject.workhub.entity.userEntity.User;
+import com.teamproject.workhub.event.EmployeeRegisteredEvent;
 import com.teamproject.workhub.repository.EmployeeRepository.EmployeeRepository;
 import com.teamproject.workhub.repository.departmentRepository.DepartmentRepository;
 import com.teamproject.workhub.repository.userRepository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,10 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginMetrics loginMetrics;
 
     // 1. 사원 등록 (무조건 USER, 비번 1111)
 
@@ -60,22 +68,54 @@ public class UserService {
                 .joinDate(request.getJoinDate())
                 .build();
 
-        employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeRegisteredEvent(savedEmployee.getEmployeeId()));
 
     }
 
     // 2. 사원 로그인 (성공 시 시간 업데이트 )
-    // 나중에 비밀번호 변경
-
-    @jakarta.transaction.Transactional
+    // 트랜잭션 없이 처리: BCrypt 검증(수십~수백 ms) 동안 DB 커넥션을 잡고 있지 않음
+    //  1) 인증 정보만 JDBC 로 조회 (커넥션 즉시 반환, OSIV 의 EntityManager 커넥션도 아직 잡지 않음)
+    //  2) PasswordVerifier 풀에서 해시 검증
+    //  3) last_login 은 별도의 짧은 UPDATE
     public User login(LoginRequest request) {
-        User user = userRepository.findByEmployeeNo(request.getEmployeeNo()).orElse(null);
-
-        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPassword()) || !user.isActive()) {
-            return null;
+        long started = System.nanoTime();
+        LoginMetrics.Outcome outcome = LoginMetrics.Outcome.FAILURE;
+        try {
+            LoginCredential credential = jdbcTemplate.query(
+                    "SELECT id, password, is_active FROM users WHERE employee_no = ?",
+                    (rs, rowNum) -> new LoginCredential(rs.getLong("id"), rs.getString("password"),
+                            rs.getBoolean("is_active")),
+                    request.getEmployeeNo()).stream().findFirst().orElse(null);
+
+            if (credential == null || !credential.active()
+                    || !passwordVerifier.matches(request.getPassword(), credential.passwordHash())) {
+                return null;
+            }
+
+            userRepository.updateLastLogin(credential.userId(), LocalDateTime.now()); // 마지막 로그인 시간 갱신
+            User user = userRepository.findById(credential.userId()).orElse(null);
+            if (user != null) {
+                outcome = LoginMetrics.Outcome.SUCCESS;
+            }
+            return user;
+        } catch (LoginBusyException e) {
+            outcome = LoginMetrics.Outcome.REJECTED;
+            throw e;
+        } finally {
+            loginMetrics.recordLogin(outcome, System.nanoTime() - started);
         }
-        user.updateLastLogin(); // 마지막 로그인 시간 갱신
-        return user;
+    }
+
+    // 로그인 검증에 필요한 최소 정보
+    private record LoginCredential(Long userId, String passwordHash, boolean active) {
+    }
+
+    // 토큰 재발급: 활성 사용자만 (비활성화된 계정은 refresh 토큰이 남아 있어도 거부)
+    public User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(User::isActive)
+                .orElse(null);
     }
 
     // 전체 사원 목록
@@ -102,9 +142,9 @@ public class UserService {
 
     // 비밀번호 변경 (본인만 가능)
     @jakarta.transaction.Transactional
-    public void changePassword(User loginUser, String currentPassword, String newPassword) {
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
 
-        User user = userRepository.findById(loginUser.getId())
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
@@ -117,14 +157,13 @@ public class UserService {
 
         String encodedNewPassword = passwordEncoder.encode(newPassword);
         user.changePassword(encodedNewPassword);
-
-        loginUser.setMustChangePassword(false);
+        user.setMustChangePassword(false); // 세션 객체가 아닌 DB 엔티티에 반영
     }
 
     // 내 정보 수정 (이메일, 전화번호)
     @jakarta.transaction.Transactional
-    public void updateUserInfo(User loginUser, EmployeeRequest request) {
-        Employee employee = employeeRepository.findByUser(loginUser)
+    public void updateUserInfo(Long userId, EmployeeRequest request) {
+        Employee employee = employeeRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("사원 정보를 찾을 수 없습니다."));
 
         employee.updateMyInfo(request.getEmail(), request.getPhone());
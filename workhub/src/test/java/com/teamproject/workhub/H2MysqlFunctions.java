@@ -0,0 +1,21 @@
+package com.teamproject.workhub;
+
+import java.time.LocalTime;
+
+// 테스트용 H2 에 없는 MySQL 함수 (h2-mysql-functions.sql 에서 CREATE ALIAS 로 등록)
+public final class H2MysqlFunctions {
+
+    private H2MysqlFunctions() {
+    }
+
+    public static LocalTime timediff(LocalTime end, LocalTime start) {
+        if (end == null || start == null) {
+            return null;
+        }
+        return LocalTime.ofSecondOfDay(end.toSecondOfDay() - start.toSecondOfDay());
+    }
+
+    public static Integer timeToSec(LocalTime time) {
+        return time != null ? time.toSecondOfDay() : null;
+    }
+}
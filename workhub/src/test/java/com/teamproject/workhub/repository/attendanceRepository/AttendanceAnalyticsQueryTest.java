@@ -0,0 +1,157 @@
+package com.teamproject.workhub.repository.attendanceRepository;
+
+import com.teamproject.workhub.dto.attendanceDto.DepartmentAttendanceStatRow;
+import com.teamproject.workhub.entity.DepartmentEntity.Department;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.userEntity.Role;
+import com.teamproject.workhub.entity.userEntity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부서별 근태 통계 GROUP BY: 생성한 근태 데이터를 Java 로 직접 집계한 값과 비교
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class AttendanceAnalyticsQueryTest {
+
+    private static final int EMPLOYEES = 300;
+    private static final int DAYS = 90;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // (부서, 일자, 상태) → [건수, 근무 분 합계, 퇴근 완료 건수]
+    private final Map<String, long[]> expected = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Department> departments = new ArrayList<>();
+        for (String name : List.of("영업", "개발", "인사")) {
+            departments.add(em.persist(Department.builder()
+                    .departName(name)
+                    .departTel("02-000-0000")
+                    .departMail(name + "@workhub.com")
+                    .departLocation("본사")
+                    .build()));
+        }
+
+        // 마지막 부서 자리는 부서 미정 사원
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String employeeNo = String.format("A%04d", i);
+            User user = em.persist(User.builder()
+                    .employeeNo(employeeNo)
+                    .password("{noop}1111")
+                    .role(Role.USER)
+                    .isActive(true)
+                    .build());
+            int slot = i % (departments.size() + 1);
+            employees.add(em.persist(Employee.builder()
+                    .user(user)
+                    .employeeNo(employeeNo)
+                    .name("사원" + i)
+                    .department(slot < departments.size() ? departments.get(slot) : null)
+                    .build()));
+        }
+        em.flush();
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (Employee employee : employees) {
+            for (int d = 0; d < DAYS; d++) {
+                LocalDate workDate = START.plusDays(d);
+                AttendanceStatus status;
+                LocalTime checkIn = null;
+                LocalTime checkOut = null;
+                int kind = random.nextInt(10);
+                if (kind == 0) {
+                    status = AttendanceStatus.ABSENT;
+                } else if (kind == 1) {
+                    // 출근만 하고 퇴근 미기록
+                    status = AttendanceStatus.NORMAL;
+                    checkIn = LocalTime.of(8, 30 + random.nextInt(30));
+                } else if (kind == 2) {
+                    status = AttendanceStatus.LATE;
+                    checkIn = LocalTime.of(9, 1 + random.nextInt(59));
+                    checkOut = LocalTime.of(18, random.nextInt(60));
+                } else if (kind == 3) {
+                    status = AttendanceStatus.EARLY_LEAVE;
+                    checkIn = LocalTime.of(8, 30 + random.nextInt(30));
+                    checkOut = LocalTime.of(15 + random.nextInt(3), random.nextInt(60));
+                } else {
+                    status = AttendanceStatus.NORMAL;
+                    checkIn = LocalTime.of(8, 30 + random.nextInt(30));
+                    checkOut = LocalTime.of(18 + random.nextInt(3), random.nextInt(60));
+                }
+                rows.add(new Object[] { employee.getEmployeeId(), Date.valueOf(workDate),
+                        checkIn != null ? Time.valueOf(checkIn) : null,
+                        checkOut != null ? Time.valueOf(checkOut) : null, status.name() });
+
+                Long departNo = employee.getDepartment() != null ? employee.getDepartment().getDepartNo() : null;
+                long[] acc = expected.computeIfAbsent(key(departNo, workDate, status.name()), k -> new long[3]);
+                acc[0]++;
+                if (checkIn != null && checkOut != null) {
+                    acc[1] += Duration.between(checkIn, checkOut).toMinutes();
+                    acc[2]++;
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO attendance "
+                + "(employee_id, work_date, check_in_time, check_out_time, status, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, NOW())", rows);
+    }
+
+    @Test
+    void aggregatesMatchGeneratedData() {
+        List<DepartmentAttendanceStatRow> result = attendanceRepository.aggregateByDepartmentAndDay(
+                START, START.plusDays(DAYS - 1));
+
+        Map<String, long[]> actual = new HashMap<>();
+        for (DepartmentAttendanceStatRow row : result) {
+            actual.put(key(row.getDepartNo(), row.getWorkDate(), row.getStatus()),
+                    new long[] { row.getCnt(), row.getWorkedMinutes(), row.getCompletedCount() });
+        }
+
+        // 행 수는 부서 수 x 일수 x 상태 수 이내 (사원 수와 무관)
+        assertThat(result.size()).isLessThanOrEqualTo(4 * DAYS * AttendanceStatus.values().length);
+        assertThat(actual).hasSameSizeAs(expected);
+        expected.forEach((key, value) -> assertThat(actual.get(key)).as(key).containsExactly(value));
+    }
+
+    @Test
+    void rangeOutsideDataReturnsNothing() {
+        assertThat(attendanceRepository.aggregateByDepartmentAndDay(
+                START.minusDays(10), START.minusDays(1))).isEmpty();
+    }
+
+    private static String key(Long departNo, LocalDate workDate, String status) {
+        return departNo + "/" + workDate + "/" + status;
+    }
+}
@@ -0,0 +1,136 @@
+package com.teamproject.workhub.repository.attendanceRepository;
+
+import com.teamproject.workhub.dto.attendanceDto.AdminAttendanceRowDto;
+import com.teamproject.workhub.entity.DepartmentEntity.Department;
+import com.teamproject.workhub.entity.attendanceEntity.Attendance;
+import com.teamproject.workhub.entity.attendanceEntity.AttendanceStatus;
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.userEntity.Role;
+import com.teamproject.workhub.entity.userEntity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리자 근태 페이지: 사원/부서 컬럼을 포함한 한 페이지가 SELECT 1회로 끝나는지 (N+1 회귀 방지)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class AttendanceRepositoryTest {
+
+    private static final int EMPLOYEES = 20;
+    private static final int DAYS = 30;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department sales;
+
+    @BeforeEach
+    void setUp() {
+        sales = em.persist(department("영업"));
+        Department dev = em.persist(department("개발"));
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = em.persist(employee(i, i % 2 == 0 ? sales : dev));
+            for (int d = 0; d < DAYS; d++) {
+                em.persist(Attendance.builder()
+                        .employee(employee)
+                        .workDate(start.plusDays(d))
+                        .checkInTime(LocalTime.of(8, 50))
+                        .checkOutTime(LocalTime.of(18, 10))
+                        .status(AttendanceStatus.NORMAL)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void adminPageOf500RowsIssuesSingleSelect() {
+        Statistics statistics = statistics();
+
+        // 서비스와 같이 한 건 더 읽어서 다음 페이지 여부 판단
+        List<AdminAttendanceRowDto> rows = attendanceRepository.findPageForAdmin(
+                null, null, null, null, null, null, Limit.of(501));
+
+        // 사원/부서 컬럼까지 모두 읽어도 추가 조회가 없어야 함
+        List<String> names = new ArrayList<>();
+        rows.forEach(row -> names.add(row.getName() + row.getEmployeeNo() + row.getDepartName()));
+
+        assertThat(rows).hasSize(501);
+        assertThat(names).allSatisfy(name -> assertThat(name).doesNotContain("null"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void filteredCursorPageIssuesSingleSelect() {
+        List<AdminAttendanceRowDto> first = attendanceRepository.findPageForAdmin(
+                null, null, sales.getDepartNo(), AttendanceStatus.NORMAL, null, null, Limit.of(101));
+        AdminAttendanceRowDto last = first.get(99);
+
+        Statistics statistics = statistics();
+        List<AdminAttendanceRowDto> next = attendanceRepository.findPageForAdmin(
+                null, null, sales.getDepartNo(), AttendanceStatus.NORMAL, last.getWorkDate(), last.getId(),
+                Limit.of(500));
+
+        // 영업 부서 10명 × 30일 = 300건 중 첫 페이지 100건 이후
+        assertThat(next).hasSize(EMPLOYEES / 2 * DAYS - 100);
+        assertThat(next).allSatisfy(row -> assertThat(row.getDepartName()).isEqualTo("영업"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static Department department(String name) {
+        return Department.builder()
+                .departName(name)
+                .departTel("02-000-0000")
+                .departMail(name + "@workhub.com")
+                .departLocation("본사")
+                .build();
+    }
+
+    private Employee employee(int index, Department department) {
+        String employeeNo = String.format("E%04d", index);
+        User user = em.persist(User.builder()
+                .employeeNo(employeeNo)
+                .password("{noop}1111")
+                .role(Role.USER)
+                .isActive(true)
+                .build());
+        return Employee.builder()
+                .user(user)
+                .employeeNo(employeeNo)
+                .name("사원" + index)
+                .department(department)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.teamproject.workhub.repository.leaveRepository;
+
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.leaveEntity.Holiday;
+import com.teamproject.workhub.entity.request.Request;
+import com.teamproject.workhub.entity.request.RequestStatus;
+import com.teamproject.workhub.entity.request.RequestType;
+import com.teamproject.workhub.entity.userEntity.Role;
+import com.teamproject.workhub.entity.userEntity.User;
+import com.teamproject.workhub.service.leaveService.LeaveLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 휴가 원장: 승인(차감) → 취소(환원) → 연간 부여 후 employee.used_leave 가 원장 합계와 같은지
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(LeaveLedgerService.class)
+class LeaveLedgerRepositoryTest {
+
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee kim;
+    private Employee lee;
+
+    @BeforeEach
+    void setUp() {
+        kim = em.persist(employee("E0001", "김"));
+        lee = em.persist(employee("E0002", "이"));
+        // 2026-03-04 (수) 공휴일
+        em.persist(Holiday.builder().holidayDate(LocalDate.of(2026, 3, 4)).name("테스트 공휴일").build());
+        em.flush();
+    }
+
+    @Test
+    void debitSkipsWeekendsAndHolidays() {
+        // 3/2(월) ~ 3/8(일): 주말 2일, 공휴일 1일 제외 → 4일
+        approve(leave(kim, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8)));
+
+        assertThat(usedLeave(kim)).isEqualTo(4.0);
+        assertThat(ledgerSum(kim, 2026)).isEqualTo(4.0);
+    }
+
+    @Test
+    void creditReversesExactlyTheDebitOnce() {
+        Request first = leave(kim, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 6));
+        Request second = leave(kim, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 10));
+        approve(first);
+        approve(second);
+        assertThat(usedLeave(kim)).isEqualTo(6.0);
+
+        // 승인 후 공휴일이 추가돼도 환원은 차감한 일수 그대로
+        em.persist(Holiday.builder().holidayDate(LocalDate.of(2026, 3, 5)).name("추가 공휴일").build());
+        em.flush();
+        cancel(first);
+        assertThat(usedLeave(kim)).isEqualTo(2.0);
+
+        // 이미 환원된 신청을 다시 취소해도 이중 환원 없음
+        cancel(first);
+        assertThat(usedLeave(kim)).isEqualTo(2.0);
+        assertThat(ledgerSum(kim, 2026)).isEqualTo(usedLeave(kim));
+    }
+
+    @Test
+    void accrualKeepsNextYearDebits() {
+        // 올해 휴가 (부여 후에는 새해 사용 일수에서 빠짐)
+        approve(leave(kim, LocalDate.of(2026, 12, 28), LocalDate.of(2026, 12, 29)));
+        // 연말에 미리 승인된 새해 휴가: 1/4(월) ~ 1/6(수) 3일, 그중 한 건은 취소
+        approve(leave(kim, LocalDate.of(2027, 1, 4), LocalDate.of(2027, 1, 6)));
+        Request cancelled = leave(kim, LocalDate.of(2027, 1, 11), LocalDate.of(2027, 1, 11));
+        approve(cancelled);
+        cancel(cancelled);
+        jdbcTemplate.update("UPDATE employee SET used_leave = 7 WHERE employeeId = ?", lee.getEmployeeId());
+
+        assertThat(leaveLedgerService.accrueYear(2027)).isEqualTo(2);
+
+        assertThat(usedLeave(kim)).isEqualTo(3.0);
+        assertThat(usedLeave(kim)).isEqualTo(ledgerSum(kim, 2027));
+        assertThat(usedLeave(lee)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT total_leave FROM employee WHERE employeeId = ?",
+                Double.class, kim.getEmployeeId())).isEqualTo(15.0);
+
+        // 같은 연도 재실행은 무시
+        approve(leave(kim, LocalDate.of(2027, 2, 1), LocalDate.of(2027, 2, 1)));
+        assertThat(leaveLedgerService.accrueYear(2027)).isZero();
+        assertThat(usedLeave(kim)).isEqualTo(4.0);
+        assertThat(usedLeave(kim)).isEqualTo(ledgerSum(kim, 2027));
+    }
+
+    private Request leave(Employee employee, LocalDate startDate, LocalDate endDate) {
+        return em.persist(Request.builder()
+                .user(employee.getUser())
+                .type(RequestType.LEAVE)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build());
+    }
+
+    private void approve(Request request) {
+        leaveLedgerService.applyStatusChange(request, RequestStatus.PENDING, RequestStatus.APPROVED);
+    }
+
+    private void cancel(Request request) {
+        leaveLedgerService.applyStatusChange(request, RequestStatus.APPROVED, RequestStatus.CANCELLED);
+    }
+
+    private double usedLeave(Employee employee) {
+        return jdbcTemplate.queryForObject("SELECT used_leave FROM employee WHERE employeeId = ?",
+                Double.class, employee.getEmployeeId());
+    }
+
+    private double ledgerSum(Employee employee, int year) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(CASE entry_type WHEN 'DEBIT' THEN days "
+                        + "WHEN 'CREDIT' THEN -days ELSE 0 END), 0) FROM leave_ledger "
+                        + "WHERE employee_id = ? AND leave_year = ?",
+                Double.class, employee.getEmployeeId(), year);
+    }
+
+    private Employee employee(String employeeNo, String name) {
+        User user = em.persist(User.builder()
+                .employeeNo(employeeNo)
+                .password("{noop}1111")
+                .role(Role.USER)
+                .isActive(true)
+                .build());
+        return Employee.builder()
+                .user(user)
+                .employeeNo(employeeNo)
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.teamproject.workhub.service.taskService;
+
+import com.teamproject.workhub.auth.LoginPrincipal;
+import com.teamproject.workhub.dto.taskDto.TaskUpdateRequest;
+import com.teamproject.workhub.entity.DepartmentEntity.Department;
+import com.teamproject.workhub.entity.employeeEntity.Employee;
+import com.teamproject.workhub.entity.taskEntity.Task;
+import com.teamproject.workhub.entity.taskEntity.TaskStatus;
+import com.teamproject.workhub.entity.userEntity.Role;
+import com.teamproject.workhub.entity.userEntity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업무 부하 카운터: 등록/수정/담당자 변경/삭제를 증감으로 반영한 결과가 tasks 전체 재계산(rebuild)과 같은지
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ TaskService.class, TaskWorkloadService.class })
+class TaskWorkloadServiceTest {
+
+    private static final LocalDate BASE = LocalDate.of(2026, 3, 2);
+    private static final LoginPrincipal ADMIN = new LoginPrincipal(1L, null, "ADMIN", Role.ADMIN, null);
+
+    private static final String SNAPSHOT_SQL = "SELECT scope_type, scope_id, open_count, p1_count, p2_count, "
+            + "p3_count, other_count, nearest_due_date FROM task_workload WHERE open_count > 0 "
+            + "ORDER BY scope_type, scope_id";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskWorkloadService taskWorkloadService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee kim;
+    private Employee lee;
+    private Employee park;
+    private Department sales;
+    private Department dev;
+
+    @BeforeEach
+    void setUp() {
+        sales = em.persist(department("영업"));
+        dev = em.persist(department("개발"));
+        kim = em.persist(employee("E0001", "김", sales));
+        lee = em.persist(employee("E0002", "이", sales));
+        park = em.persist(employee("E0003", "박", dev));
+        em.flush();
+    }
+
+    @Test
+    void incrementalCountersMatchRebuild() {
+        Task t1 = create("t1", BASE.plusDays(5), kim);
+        Task t2 = create("t2", BASE.plusDays(1), kim);
+        Task t3 = create("t3", BASE.plusDays(2), lee);
+        Task t4 = create("t4", BASE.plusDays(3), lee);
+        Task t5 = create("t5", null, park);
+        Task t6 = create("t6", BASE.plusDays(4), park);
+        Task t7 = create("t7", BASE, lee);
+
+        // 우선순위/마감일 변경 (마감일이 앞당겨지면 LEAST 로 갱신)
+        update(t1, TaskStatus.TODO, 1, BASE.minusDays(1));
+        update(t3, TaskStatus.IN_PROGRESS, 2, BASE.plusDays(2));
+        update(t6, TaskStatus.TODO, 3, BASE.plusDays(4));
+
+        // 미완료 → 완료 → 다시 미완료
+        taskService.updateTaskStatus(t2.getId(), "DONE");
+        taskService.updateTaskStatus(t2.getId(), "TODO");
+        // 가장 가까운 마감일 업무가 미완료에서 빠짐 → 해당 범위 재조회
+        taskService.updateTaskStatus(t7.getId(), "DONE");
+
+        // 부서를 넘는 담당자 변경 (영업 → 개발, 김 의 최솟값 업무 포함)
+        taskService.bulkUpdateAssignee(List.of(t1.getId(), t3.getId()), park.getEmployeeId(), ADMIN);
+        // 같은 부서 안 담당자 변경
+        taskService.bulkUpdateAssignee(List.of(t4.getId()), kim.getEmployeeId(), ADMIN);
+
+        // 일괄 상태 변경: 미완료끼리는 그대로, 완료/승인은 빠짐
+        taskService.bulkUpdateStatus(List.of(t3.getId(), t5.getId()), TaskStatus.IN_PROGRESS, ADMIN);
+        taskService.bulkUpdateStatus(List.of(t4.getId()), TaskStatus.DONE, ADMIN);
+        taskService.approveTask(t6.getId());
+
+        // 삭제 (단건 / 일괄)
+        Task t8 = create("t8", BASE.minusDays(3), lee);
+        taskService.deleteTask(t8.getId());
+        taskService.bulkDelete(List.of(t1.getId()), ADMIN);
+
+        List<Map<String, Object>> incremental = snapshot();
+
+        // 미완료가 0 이 된 행은 남아 있어도 카운터/마감일이 모두 비어 있어야 함
+        assertThat(jdbcTemplate.queryForList("SELECT * FROM task_workload WHERE open_count = 0"))
+                .allSatisfy(row -> {
+                    assertThat(row.get("p1_count")).isEqualTo(0);
+                    assertThat(row.get("p2_count")).isEqualTo(0);
+                    assertThat(row.get("p3_count")).isEqualTo(0);
+                    assertThat(row.get("other_count")).isEqualTo(0);
+                    assertThat(row.get("nearest_due_date")).isNull();
+                });
+
+        taskWorkloadService.rebuild();
+        List<Map<String, Object>> rebuilt = snapshot();
+
+        // 남은 미완료: 김 t2(영업), 박 t3/t5(개발) → 사원 2행 + 부서 2행
+        assertThat(rebuilt).hasSize(4);
+        assertThat(incremental).isEqualTo(rebuilt);
+    }
+
+    @Test
+    void removingNearestDueRecomputesFromRemainingTasks() {
+        Task near = create("near", BASE, kim);
+        create("far", BASE.plusDays(7), kim);
+        create("other", BASE.plusDays(3), lee);
+
+        taskService.deleteTask(near.getId());
+
+        assertThat(nearest("EMPLOYEE", kim.getEmployeeId())).isEqualTo(BASE.plusDays(7));
+        assertThat(nearest("DEPARTMENT", sales.getDepartNo())).isEqualTo(BASE.plusDays(3));
+        assertThat(nearest("DEPARTMENT", dev.getDepartNo())).isNull();
+    }
+
+    private Task create(String title, LocalDate dueDate, Employee assignee) {
+        Task task = taskService.createTask(title, "", dueDate, assignee.getEmployeeId(), assignee.getUser().getId());
+        em.flush();
+        return task;
+    }
+
+    private void update(Task task, TaskStatus status, Integer priority, LocalDate dueDate) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle(task.getTitle());
+        request.setDescription(task.getDescription());
+        request.setStatus(status);
+        request.setPriority(priority);
+        request.setDueDate(dueDate);
+        taskService.updateTask(task.getId(), request);
+    }
+
+    private List<Map<String, Object>> snapshot() {
+        return jdbcTemplate.queryForList(SNAPSHOT_SQL);
+    }
+
+    private LocalDate nearest(String scope, Long id) {
+        List<Date> dates = jdbcTemplate.queryForList(
+                "SELECT nearest_due_date FROM task_workload WHERE scope_type = ? AND scope_id = ?",
+                Date.class, scope, id);
+        return dates.isEmpty() || dates.get(0) == null ? null : dates.get(0).toLocalDate();
+    }
+
+    private static Department department(String name) {
+        return Department.builder()
+                .departName(name)
+                .departTel("02-000-0000")
+                .departMail(name + "@workhub.com")
+                .departLocation("본사")
+                .build();
+    }
+
+    private Employee employee(String employeeNo, String name, Department department) {
+        User user = em.persist(User.builder()
+                .employeeNo(employeeNo)
+                .password("{noop}1111")
+                .role(Role.USER)
+                .isActive(true)
+                .build());
+        return Employee.builder()
+                .user(user)
+                .employeeNo(employeeNo)
+                .name(name)
+                .department(department)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.teamproject.workhub.service.userService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 검증 풀: 동시 해시 계산 수 제한, 대기열 초과/대기 시간 초과 시 LoginBusyException
+class PasswordVerifierTest {
+
+    private static final int THREADS = 2;
+    private static final int QUEUE = 3;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final ExecutorService callers = Executors.newFixedThreadPool(16);
+
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentLoginsAreBoundedByPoolAndQueue() throws Exception {
+        verifier = new PasswordVerifier(blockingEncoder(), new LoginMetrics(), THREADS, QUEUE, 10_000);
+
+        // 풀(2) + 대기열(3) 을 먼저 채운 뒤 추가 요청은 바로 거절되어야 함
+        List<Future<Boolean>> accepted = new ArrayList<>();
+        for (int i = 0; i < THREADS + QUEUE; i++) {
+            accepted.add(callers.submit(() -> verifier.matches("1111", "encoded")));
+        }
+        waitUntil(() -> verifier.getActiveCount() == THREADS && verifier.getQueuedCount() == QUEUE);
+
+        List<Future<Boolean>> overflow = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            overflow.add(callers.submit(() -> verifier.matches("1111", "encoded")));
+        }
+        for (Future<Boolean> future : overflow) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(LoginBusyException.class);
+        }
+
+        release.countDown();
+        for (Future<Boolean> future : accepted) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(maxRunning.get()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void waitingLongerThanTimeoutIsRejected() {
+        verifier = new PasswordVerifier(blockingEncoder(), new LoginMetrics(), 1, QUEUE, 200);
+
+        assertThatThrownBy(() -> verifier.matches("1111", "encoded"))
+                .isInstanceOf(LoginBusyException.class);
+    }
+
+    @Test
+    void missingPasswordIsRejectedWithoutUsingThePool() {
+        verifier = new PasswordVerifier(blockingEncoder(), new LoginMetrics(), THREADS, QUEUE, 200);
+
+        assertThat(verifier.matches(null, "encoded")).isFalse();
+        assertThat(verifier.matches("1111", null)).isFalse();
+        assertThat(maxRunning.get()).isZero();
+    }
+
+    // release 전까지 해시 계산이 끝나지 않는 인코더 (동시 실행 수 기록)
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
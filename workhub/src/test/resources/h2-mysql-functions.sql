@@ -0,0 +1,2 @@
+CREATE ALIAS IF NOT EXISTS TIMEDIFF FOR 'com.teamproject.workhub.H2MysqlFunctions.timediff';
+CREATE ALIAS IF NOT EXISTS TIME_TO_SEC FOR 'com.teamproject.workhub.H2MysqlFunctions.timeToSec';